@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.util.List;
+import java.util.Set;
 import jakarta.inject.Inject;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -72,5 +73,13 @@ class ApplicationParamsIT {
                 .isNotEmpty()
                 .hasSameElementsAs(List.of("xui_webapp", "ccd_admin", "ccd_definition"));
         }
+
+        @Test
+        void shouldResolvePropertyValuesAsSet() {
+            final Set<String> result = underTest.getPutDictionaryBypassRoleAuthCheckServices();
+
+            assertThat(result)
+                .containsExactlyInAnyOrder("xui_webapp", "ccd_admin", "ccd_definition");
+        }
     }
 }
@@ -19,6 +19,7 @@ import org.springframework.security.core.context.SecurityContextImpl;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.test.context.ActiveProfiles;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
+import uk.gov.hmcts.reform.translate.service.TranslationSnapshotCache;
 
 import java.util.Date;
 
@@ -48,6 +49,7 @@ public abstract class BaseTest {
     public static final String GET_DICTIONARY_TEST_PHRASE_1 = "English Phrase 1";
     public static final String GET_DICTIONARY_TEST_PHRASE_2 = "English Phrase 2";
     public static final String GET_DICTIONARY_TEST_PHRASE_2_TRANSLATION = "Translated Phrase 2";
+    public static final String GET_DICTIONARY_TEST_PHRASE_3 = "English Phrase 3";
     public static final String GET_DICTIONARY_TEST_PHRASE_3_TRANSLATION = "Translated Phrase 1";
 
     @Value("${wiremock.server.port}")
@@ -56,6 +58,9 @@ public abstract class BaseTest {
     @Autowired
     protected SecurityUtils securityUtils;
 
+    @Autowired
+    protected TranslationSnapshotCache translationSnapshotCache;
+
     @Mock
     protected Authentication authentication;
 
@@ -81,6 +86,8 @@ public abstract class BaseTest {
         Jwt jwt = dummyJwt();
         when(authentication.getPrincipal()).thenReturn(jwt);
         SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+        // NB: test data is loaded by SQL scripts behind the snapshot's back
+        translationSnapshotCache.reload();
     }
 
     protected Jwt dummyJwt() {
@@ -0,0 +1,145 @@
+package uk.gov.hmcts.reform.translate.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.translate.BaseTest;
+import uk.gov.hmcts.reform.translate.model.Translation;
+import uk.gov.hmcts.reform.translate.repository.TranslationVersionBarrier;
+import uk.gov.hmcts.reform.translate.service.DictionaryChangedEvent;
+import uk.gov.hmcts.reform.translate.service.TranslationSnapshotCache;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two Postgres containers: the usual one as the primary, and a second, empty, one as the replica.
+ */
+@SpringBootTest(properties = {
+    "ts.datasource.replica.enabled=true",
+    "ts.datasource.replica.hikari.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver",
+    "ts.datasource.replica.hikari.jdbc-url=jdbc:tc:postgresql:15:///" + DataSourceConfigurationIT.REPLICA_DATABASE,
+    "ts.datasource.replica.hikari.maximum-pool-size=" + DataSourceConfigurationIT.REPLICA_POOL_SIZE
+})
+class DataSourceConfigurationIT extends BaseTest {
+
+    static final String REPLICA_DATABASE = "replicadatabase";
+    static final int REPLICA_POOL_SIZE = 3;
+    private static final String PRIMARY_DATABASE = "databasename";
+    private static final String CURRENT_DATABASE_SQL = "SELECT current_database()";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TranslationVersionBarrier translationVersionBarrier;
+
+    @Autowired
+    private TranslationSnapshotCache translationSnapshotCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldServeReadOnlyTransactionsFromReplica() {
+
+        // WHEN
+        final String database = readOnlyTransaction()
+            .execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class));
+
+        // THEN
+        assertThat(database).isEqualTo(REPLICA_DATABASE);
+    }
+
+    @Test
+    void shouldServeReadWriteTransactionsFromPrimary() {
+
+        // WHEN
+        final String database = new TransactionTemplate(transactionManager)
+            .execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class));
+
+        // THEN
+        assertThat(database).isEqualTo(PRIMARY_DATABASE);
+    }
+
+    @Test
+    void shouldServeNonTransactionalAccessFromPrimary() {
+
+        // WHEN
+        final String database = jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class);
+
+        // THEN
+        assertThat(database).isEqualTo(PRIMARY_DATABASE);
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void shouldReadCommittedHighWaterMarkFromPrimaryInReadOnlyTransaction() {
+
+        // WHEN
+        // NB: the replica has no translation uploads (nor even the table), so the mark can only come from the primary
+        final Long highWaterMark = readOnlyTransaction()
+            .execute(status -> translationVersionBarrier.getCommittedHighWaterMark());
+
+        // THEN
+        assertThat(highWaterMark).isEqualTo(3L);
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void shouldReloadSnapshotFromPrimary() {
+
+        // WHEN
+        // NB: the replica has no dictionary (nor even the table), so the snapshot can only be loaded from the primary
+        translationSnapshotCache.onDictionaryChanged(DictionaryChangedEvent.forAllPhrases());
+
+        // THEN
+        assertThat(translationSnapshotCache.get("English Phrase 2"))
+            .contains(new Translation("Translated Phrase 2"));
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void shouldRefreshSnapshotFromPrimary() {
+
+        // WHEN
+        translationSnapshotCache.onDictionaryChanged(DictionaryChangedEvent.forPhrases(Set.of("English Phrase 2")));
+
+        // THEN
+        assertThat(translationSnapshotCache.get("English Phrase 2"))
+            .contains(new Translation("Translated Phrase 2"));
+    }
+
+    @Test
+    void shouldPublishMetricsForEachPool() {
+
+        // GIVEN
+        readOnlyTransaction().execute(status -> jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class));
+        jdbcTemplate.queryForObject(CURRENT_DATABASE_SQL, String.class);
+
+        // WHEN
+        final double replicaMax = meterRegistry.get("hikaricp.connections.max")
+            .tag("pool", "tsTranslationReplicaHikariCP").gauge().value();
+        final double primaryMax = meterRegistry.get("hikaricp.connections.max")
+            .tag("pool", "tsTranslationHikariCP").gauge().value();
+
+        // THEN
+        assertThat(replicaMax).isEqualTo(REPLICA_POOL_SIZE);
+        assertThat(primaryMax).isEqualTo(10);
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate;
+    }
+}
@@ -24,6 +24,8 @@ import uk.gov.hmcts.reform.translate.model.Dictionary;
 import uk.gov.hmcts.reform.translate.model.Translation;
 import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
 import uk.gov.hmcts.reform.translate.repository.JpaDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.TranslationUploadRepository;
+import uk.gov.hmcts.reform.translate.service.UntranslatedPhraseRecorder;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -44,6 +46,7 @@ import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -55,8 +58,20 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.AFTER_ID_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.CURSOR_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_ENTRIES_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_SEARCH_URL;
 import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.LIMIT_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.MODE_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.QUERY_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.SINCE_VERSION_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.STARTING_WITH_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATED_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATION_VERSION_PARAM;
 import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATIONS_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.YES_OR_NO_PARAM;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.LOAD_TRANSLATIONS_ROLE;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSLATIONS_ROLE;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
@@ -73,6 +88,12 @@ public class DictionaryControllerIT extends BaseTest {
     @Qualifier(JpaDictionaryRepository.QUALIFIER)
     protected DictionaryRepository dictionaryRepository;
 
+    @Autowired
+    private UntranslatedPhraseRecorder untranslatedPhraseRecorder;
+
+    @Autowired
+    private TranslationUploadRepository translationUploadRepository;
+
     @Nested
     @DisplayName("Get Dictionary")
     class GetDictionary {
@@ -84,6 +105,7 @@ public class DictionaryControllerIT extends BaseTest {
                                 .contentType(APPLICATION_JSON_VALUE))
                 .andExpect(status().is(200))
                 .andExpect(jsonPath("$.translations", is(emptyMap())))
+                .andExpect(jsonPath("$.version", equalTo(0)))
                 .andReturn();
         }
 
@@ -102,6 +124,22 @@ public class DictionaryControllerIT extends BaseTest {
                                     equalTo("Yes Translation")))
                 .andExpect(jsonPath("$.translations['English Phrase 3'].no",
                                     equalTo("No Translation")))
+                .andExpect(jsonPath("$.version", equalTo(3)))
+                .andReturn();
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithOnlyLaterTranslationsWhenSinceVersionIsSupplied() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_URL)
+                                .param(SINCE_VERSION_PARAM, "2")
+                                .contentType(APPLICATION_JSON_VALUE))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.translations['English Phrase 2']").doesNotExist())
+                .andExpect(jsonPath("$.translations['English Phrase 3'].translation",
+                                    equalTo(GET_DICTIONARY_TEST_PHRASE_3_TRANSLATION)))
+                .andExpect(jsonPath("$.version", equalTo(3)))
                 .andReturn();
         }
 
@@ -115,6 +153,171 @@ public class DictionaryControllerIT extends BaseTest {
         }
     }
 
+    @Nested
+    @DisplayName("Get Dictionary Entries")
+    class GetDictionaryEntries {
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithEachPageOfEntriesInIdOrder() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(LIMIT_PARAM, "2"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase",
+                                    contains(GET_DICTIONARY_TEST_PHRASE_1, GET_DICTIONARY_TEST_PHRASE_2)))
+                .andExpect(jsonPath("$.entries[1].translation", equalTo(GET_DICTIONARY_TEST_PHRASE_2_TRANSLATION)))
+                .andExpect(jsonPath("$.nextAfterId", equalTo(2)));
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(LIMIT_PARAM, "2")
+                                .param(AFTER_ID_PARAM, "2"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_3)))
+                .andExpect(jsonPath("$.entries[0].yes", equalTo("Yes Translation")))
+                .andExpect(jsonPath("$.nextAfterId").doesNotExist());
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithOnlyUntranslatedEntries() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(TRANSLATED_PARAM, "false"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_1)))
+                .andExpect(jsonPath("$.entries[0].translation").doesNotExist());
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithOnlyTranslatedEntriesThatAreNotYesOrNo() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(TRANSLATED_PARAM, "true")
+                                .param(YES_OR_NO_PARAM, "false"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_2)));
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithOnlyEntriesStartingWithPrefix() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(STARTING_WITH_PARAM, "English Phrase 3"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_3)));
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithOnlyEntriesTranslatedByUploadVersion() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(TRANSLATION_VERSION_PARAM, "2"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_2)))
+                .andExpect(jsonPath("$.entries[0].translationVersion", equalTo(2)));
+        }
+
+        @Test
+        void shouldReturn400WhenPageSizeIsTooLarge() throws Exception {
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL)
+                                .param(LIMIT_PARAM, "1001"))
+                .andExpect(status().is(400))
+                .andReturn();
+        }
+
+        @Test
+        void shouldReturn403WhenUserDoesNotHaveManageTranslationsRole() throws Exception {
+            stubUserInfo("unknown-role");
+            mockMvc.perform(get(DICTIONARY_ENTRIES_URL))
+                .andExpect(status().is(403))
+                .andReturn();
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Dictionary")
+    class SearchDictionary {
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithEachPageOfWelshSubstringMatches() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "translated phrase")
+                                .param(LIMIT_PARAM, "1"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_2)))
+                .andExpect(jsonPath("$.nextCursor", equalTo("2")));
+
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "translated phrase")
+                                .param(LIMIT_PARAM, "1")
+                                .param(CURSOR_PARAM, "2"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_3)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithEnglishSubstringMatchesTreatingWildcardsLiterally() throws Exception {
+
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "ENGLISH PHRASE 1"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_1)));
+
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "English%1"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries", is(List.of())));
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+        void shouldReturn200WithEachPageOfSimilarityMatches() throws Exception {
+
+            final String firstPage = mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                                         .param(QUERY_PARAM, "Translatd")
+                                                         .param(MODE_PARAM, "SIMILARITY")
+                                                         .param(LIMIT_PARAM, "1"))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_2)))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "Translatd")
+                                .param(MODE_PARAM, "SIMILARITY")
+                                .param(LIMIT_PARAM, "1")
+                                .param(CURSOR_PARAM, objectMapper.readTree(firstPage).get("nextCursor").asText()))
+                .andExpect(status().is(200))
+                .andExpect(jsonPath("$.entries[*].englishPhrase", contains(GET_DICTIONARY_TEST_PHRASE_3)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+        }
+
+        @Test
+        void shouldReturn400WhenQueryIsTooShort() throws Exception {
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "ab"))
+                .andExpect(status().is(400))
+                .andReturn();
+        }
+
+        @Test
+        void shouldReturn403WhenUserDoesNotHaveManageTranslationsRole() throws Exception {
+            stubUserInfo("unknown-role");
+            mockMvc.perform(get(DICTIONARY_SEARCH_URL)
+                                .param(QUERY_PARAM, "respondent"))
+                .andExpect(status().is(403))
+                .andReturn();
+        }
+    }
+
     @Nested
     @DisplayName("Request Translations")
     class RequestTranslations {
@@ -161,7 +364,9 @@ public class DictionaryControllerIT extends BaseTest {
                 final List<Future<ResultActions>> taskFutureList = executorService.invokeAll(callables);
 
                 // THEN
-                assertThatResultsContainsConstraintViolation(taskFutureList);
+                assertThatAllResultsSucceeded(taskFutureList);
+                untranslatedPhraseRecorder.flush();
+                assertTrue(dictionaryRepository.findByEnglishPhrase("English phrase 2").isPresent());
             } finally {
                 Objects.requireNonNull(executorService).shutdown();
             }
@@ -323,6 +528,65 @@ public class DictionaryControllerIT extends BaseTest {
             );
         }
 
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, PUT_CREATE_ENGLISH_PHRASES_WITH_TRANSLATIONS_SCRIPT})
+        void shouldReturn201ForPutDictionaryWithUnchangedTranslationsWithoutNewUpload() throws Exception {
+
+            // GIVEN
+            stubUserInfo(MANAGE_TRANSLATIONS_ROLE);
+
+            // WHEN / THEN
+            mockMvc.perform(put(DICTIONARY_URL)
+                                .header(SERVICE_AUTHORIZATION, serviceJwtXuiWeb)
+                                .contentType(APPLICATION_JSON_VALUE)
+                                .content(
+                                    objectMapper.writeValueAsString(getDictionaryRequests(
+                                        2,
+                                        new Translation("translated")
+                                    ))))
+                .andExpect(status().is(201))
+                .andReturn();
+
+            // THEN
+            assertDictionaryEntity(
+                "english_1",
+                new Translation("translated_1"),
+                1
+            );
+            assertDictionaryEntity(
+                "english_2",
+                new Translation("translated_2"),
+                1
+            );
+            assertEquals(1L, translationUploadRepository.count());
+        }
+
+        @Test
+        @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, PUT_CREATE_ENGLISH_PHRASES_WITH_TRANSLATIONS_SCRIPT})
+        void shouldServeUpdatedTranslationsForRequestTranslationsAfterPutDictionary() throws Exception {
+
+            // GIVEN
+            stubUserInfo(MANAGE_TRANSLATIONS_ROLE);
+
+            // WHEN
+            mockMvc.perform(put(DICTIONARY_URL)
+                                .header(SERVICE_AUTHORIZATION, serviceJwtXuiWeb)
+                                .contentType(APPLICATION_JSON_VALUE)
+                                .content(objectMapper.writeValueAsString(getDictionaryRequests(
+                                    1,
+                                    new Translation("updated")
+                                ))))
+                .andExpect(status().is(201));
+
+            // THEN
+            mockMvc.perform(post(TRANSLATIONS_URL)
+                                .contentType(APPLICATION_JSON_VALUE)
+                                .accept(APPLICATION_JSON_VALUE)
+                                .content("{\"phrases\": [\"english_1\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.translations['english_1'].translation", equalTo("updated_1")));
+        }
+
         @Test
         @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, PUT_CREATE_ENGLISH_PHRASES_WITH_TRANSLATIONS_SCRIPT})
         void shouldReturn201ForPutDictionaryWhenUpdatingExistingRecordsWithYesOrNo() throws Exception {
@@ -582,6 +846,16 @@ public class DictionaryControllerIT extends BaseTest {
                     .hasLeftValueSatisfying(DictionaryControllerIT.this::assertConstraintViolation)));
     }
 
+    private void assertThatAllResultsSucceeded(final List<Future<ResultActions>> taskFutureList) throws Exception {
+        final List<Either<Throwable, ResultActions>> results = collateResults(taskFutureList);
+        assertThat(results)
+            .isNotNull()
+            .allSatisfy(item -> VavrAssertions.assertThat(item).isRight());
+        for (final Either<Throwable, ResultActions> result : results) {
+            result.get().andExpect(status().isOk());
+        }
+    }
+
     private List<Either<Throwable, ResultActions>> collateResults(final List<Future<ResultActions>> taskFutureList) {
         return taskFutureList.stream()
             .map(future -> {
@@ -0,0 +1,86 @@
+package uk.gov.hmcts.reform.translate.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.translate.BaseTest;
+import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.Translation;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_URL;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSLATIONS_ROLE;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
+
+@Slf4j
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+class PutDictionaryBenchmarkIT extends BaseTest {
+
+    private static final String BENCHMARK_PHRASE_PREFIX = "Benchmark Phrase ";
+    private static final int NUMBER_OF_PHRASES = 1000;
+    // NB: one read, then an id block and an insert batch per 50 phrases, plus a little fixed overhead
+    private static final int MAX_STATEMENTS = 100;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final String serviceJwtXuiWeb = generateDummyS2SToken("xui_webapp");
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT})
+    void shouldWriteLargeUploadInBatches() throws Exception {
+
+        // GIVEN
+        stubUserInfo(MANAGE_TRANSLATIONS_ROLE);
+        final Map<String, Translation> translations = IntStream.rangeClosed(1, NUMBER_OF_PHRASES)
+            .mapToObj(i -> BENCHMARK_PHRASE_PREFIX + i)
+            .collect(Collectors.toMap(Function.identity(), phrase -> new Translation("Translated " + phrase)));
+        final String payload = objectMapper.writeValueAsString(new Dictionary(translations));
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // WHEN
+        final long start = System.nanoTime();
+        mockMvc.perform(put(DICTIONARY_URL)
+                            .header(SERVICE_AUTHORIZATION, serviceJwtXuiWeb)
+                            .contentType(APPLICATION_JSON_VALUE)
+                            .content(payload))
+            .andExpect(status().is(201));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // THEN
+        final long statementCount = statistics.getPrepareStatementCount();
+        log.info("PUT {} with {} phrases: {} statement(s), {} ms",
+                 DICTIONARY_URL, NUMBER_OF_PHRASES, statementCount, elapsedMillis);
+        assertThat(statementCount).isLessThanOrEqualTo(MAX_STATEMENTS);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from dictionary where translation_phrase is not null",
+                                               Integer.class))
+            .isEqualTo(NUMBER_OF_PHRASES);
+    }
+}
@@ -0,0 +1,117 @@
+package uk.gov.hmcts.reform.translate.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.translate.BaseTest;
+import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.Translation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_URL;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSLATIONS_ROLE;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
+
+/**
+ * Runs as many concurrent uploads as there are pooled connections: each upload must complete on the one connection
+ * it holds, as waiting for a second would starve every upload until the pool's connection timeout.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.hikari.maximum-pool-size=" + PutDictionaryConnectionUsageIT.CONCURRENT_UPLOADS,
+    "spring.datasource.hikari.minimum-idle=" + PutDictionaryConnectionUsageIT.CONCURRENT_UPLOADS,
+    "spring.datasource.hikari.connection-timeout=2000",
+    "ts.untranslated-phrases.flush-interval=PT1H"
+})
+class PutDictionaryConnectionUsageIT extends BaseTest {
+
+    static final int CONCURRENT_UPLOADS = 4;
+    private static final int PHRASES_PER_UPLOAD = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final String serviceJwtXuiWeb = generateDummyS2SToken("xui_webapp");
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT})
+    void shouldUpdateTranslationsConcurrentlyWithoutTakingExtraConnections() throws Exception {
+
+        // GIVEN
+        stubUserInfo(MANAGE_TRANSLATIONS_ROLE);
+        // NB: existing phrases, so that every upload updates them with a translation
+        jdbcTemplate.update("insert into dictionary (english_phrase) "
+                                + "select 'Upload ' || u || ' Phrase ' || p "
+                                + "from generate_series(1, ?) u, generate_series(1, ?) p",
+                            CONCURRENT_UPLOADS, PHRASES_PER_UPLOAD);
+        final List<Callable<Integer>> uploads = IntStream.rangeClosed(1, CONCURRENT_UPLOADS)
+            .mapToObj(this::createPutDictionaryCallable)
+            .toList();
+
+        // WHEN
+        final ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_UPLOADS);
+        final List<Integer> statuses;
+        try {
+            statuses = executorService.invokeAll(uploads).stream()
+                .map(PutDictionaryConnectionUsageIT::getStatus)
+                .toList();
+        } finally {
+            executorService.shutdown();
+        }
+
+        // THEN
+        assertThat(statuses).containsOnly(201);
+        assertThat(jdbcTemplate.queryForObject("select count(distinct translation_version) from dictionary "
+                                                   + "where translation_phrase is not null", Integer.class))
+            .isEqualTo(CONCURRENT_UPLOADS);
+    }
+
+    private Callable<Integer> createPutDictionaryCallable(final int upload) {
+        final Map<String, Translation> translations = IntStream.rangeClosed(1, PHRASES_PER_UPLOAD)
+            .mapToObj(phrase -> "Upload " + upload + " Phrase " + phrase)
+            .collect(Collectors.toMap(Function.identity(), phrase -> new Translation("Translated " + phrase)));
+
+        return () -> {
+            when(authentication.getPrincipal()).thenReturn(dummyJwt());
+            SecurityContextHolder.setContext(new SecurityContextImpl(authentication));
+
+            return mockMvc.perform(put(DICTIONARY_URL)
+                                       .header(SERVICE_AUTHORIZATION, serviceJwtXuiWeb)
+                                       .contentType(APPLICATION_JSON_VALUE)
+                                       .content(objectMapper.writeValueAsString(new Dictionary(translations))))
+                .andReturn().getResponse().getStatus();
+        };
+    }
+
+    private static Integer getStatus(final Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
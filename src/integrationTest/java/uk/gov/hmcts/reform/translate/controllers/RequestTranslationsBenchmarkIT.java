@@ -0,0 +1,102 @@
+package uk.gov.hmcts.reform.translate.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.translate.BaseTest;
+import uk.gov.hmcts.reform.translate.model.TranslationsRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATIONS_URL;
+
+@Slf4j
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true"})
+class RequestTranslationsBenchmarkIT extends BaseTest {
+
+    private static final String BENCHMARK_PHRASE_PREFIX = "Benchmark Phrase ";
+    private static final int[] REQUEST_SIZES = {1, 10, 100, 1000};
+    private static final int WARM_UP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT})
+    void shouldKeepStatementCountFlatAsNumberOfPhrasesGrows() throws Exception {
+
+        // GIVEN
+        jdbcTemplate.update("insert into dictionary (english_phrase, translation_phrase) "
+                                + "select '" + BENCHMARK_PHRASE_PREFIX + "' || i, 'Translated ' || i "
+                                + "from generate_series(1, " + REQUEST_SIZES[REQUEST_SIZES.length - 1] + ") i");
+        translationSnapshotCache.reload();
+        final Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // WHEN
+        final Map<Integer, Long> statementCounts = new LinkedHashMap<>();
+        for (final int requestSize : REQUEST_SIZES) {
+            final String payload = createPayload(requestSize);
+            for (int run = 0; run < WARM_UP_RUNS; run++) {
+                postTranslations(payload);
+            }
+
+            statistics.clear();
+            final long start = System.nanoTime();
+            for (int run = 0; run < MEASURED_RUNS; run++) {
+                postTranslations(payload);
+            }
+            final long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start) / MEASURED_RUNS;
+
+            statementCounts.put(requestSize, statistics.getPrepareStatementCount() / MEASURED_RUNS);
+            log.info("POST {} with {} phrases: {} statement(s), {} us per request",
+                     TRANSLATIONS_URL, requestSize, statementCounts.get(requestSize), elapsedMicros);
+        }
+
+        // THEN
+        assertThat(statementCounts.values())
+            .as("statements per request should not grow with the number of phrases: %s", statementCounts)
+            .containsOnly(statementCounts.get(REQUEST_SIZES[0]));
+    }
+
+    private String createPayload(final int requestSize) throws Exception {
+        final Set<String> phrases = IntStream.rangeClosed(1, requestSize)
+            .mapToObj(i -> BENCHMARK_PHRASE_PREFIX + i)
+            .collect(Collectors.toSet());
+        return objectMapper.writeValueAsString(new TranslationsRequest(phrases));
+    }
+
+    private void postTranslations(final String payload) throws Exception {
+        mockMvc.perform(post(TRANSLATIONS_URL)
+                            .contentType(APPLICATION_JSON_VALUE)
+                            .accept(APPLICATION_JSON_VALUE)
+                            .content(payload))
+            .andExpect(status().isOk());
+    }
+}
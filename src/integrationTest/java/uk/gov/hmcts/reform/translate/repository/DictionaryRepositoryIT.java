@@ -4,18 +4,28 @@ import org.assertj.core.util.Streams;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.translate.BaseTest;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
 import uk.gov.hmcts.reform.translate.data.TranslationUploadEntity;
 import uk.gov.hmcts.reform.translate.errorhandling.EnglishPhraseUniqueConstraintException;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -29,6 +39,9 @@ class DictionaryRepositoryIT extends BaseTest {
     @Qualifier(DefaultDictionaryRepository.QUALIFIER)
     DictionaryRepository dictionaryRepository;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     private static final String ENGLISH_PHRASE = "English phrase";
     private static final String TRANSLATION_PHRASE = "Welsh translation phrase";
     private static final String TRANSLATION_YES = "Welsh translation yes";
@@ -57,6 +70,48 @@ class DictionaryRepositoryIT extends BaseTest {
 
     }
 
+    @Sql(scripts = DELETE_TRANSLATION_TABLES_SCRIPT)
+    @Test
+    void testDeleteChunkByEnglishPhraseStartingWithPrefixLongerThanIndexedPrefix() {
+
+        // GIVEN
+        final String prefix = TEST_PHRASES_START_WITH + "x".repeat(100);
+        dictionaryRepository.insertEnglishPhrasesIfAbsent(
+            List.of(prefix + "1", prefix + "2", prefix + "3", prefix.substring(0, 80) + "y")
+        );
+
+        // WHEN
+        final int firstChunk = dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(prefix, 2);
+        final int secondChunk = dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(prefix, 2);
+
+        // THEN
+        assertAll(
+            () -> assertEquals(2, firstChunk),
+            () -> assertEquals(1, secondChunk),
+            () -> assertTrue(dictionaryRepository.findByEnglishPhrase(prefix + "3").isEmpty()),
+            () -> assertTrue(dictionaryRepository.findByEnglishPhrase(prefix.substring(0, 80) + "y").isPresent())
+        );
+    }
+
+    @Sql(scripts = DELETE_TRANSLATION_TABLES_SCRIPT)
+    @Test
+    void testDeleteChunkByEnglishPhraseStartingWithPrefixEndingInHighestCodePoint() {
+
+        // GIVEN
+        final String prefix = TEST_PHRASES_START_WITH + Character.toString(Character.MAX_CODE_POINT);
+        dictionaryRepository.insertEnglishPhrasesIfAbsent(List.of(prefix + "1", prefix + "2", TEST_PHRASES_START_WITH));
+
+        // WHEN
+        final int deleted = dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(prefix, 10);
+
+        // THEN
+        assertAll(
+            () -> assertEquals(2, deleted),
+            () -> assertTrue(dictionaryRepository.findByEnglishPhrase(prefix + "1").isEmpty()),
+            () -> assertTrue(dictionaryRepository.findByEnglishPhrase(TEST_PHRASES_START_WITH).isPresent())
+        );
+    }
+
     @Sql(scripts = DELETE_TRANSLATION_TABLES_SCRIPT)
     @Test
     void testSaveDictionaryAndTranslationUpload() {
@@ -165,6 +220,21 @@ class DictionaryRepositoryIT extends BaseTest {
                        .allMatch(dictionaryEntity -> dictionaryEntity.getTranslationUpload() != null));
     }
 
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    @Transactional(readOnly = true)
+    void testStreamAllTranslations() {
+        try (Stream<DictionaryTranslationView> dictionaryTranslations = dictionaryRepository.streamAllTranslations()) {
+            assertThat(dictionaryTranslations)
+                .extracting(DictionaryTranslationView::englishPhrase, DictionaryTranslationView::translationPhrase)
+                .containsExactlyInAnyOrder(
+                    tuple(GET_DICTIONARY_TEST_PHRASE_1, null),
+                    tuple(GET_DICTIONARY_TEST_PHRASE_2, GET_DICTIONARY_TEST_PHRASE_2_TRANSLATION),
+                    tuple(GET_DICTIONARY_TEST_PHRASE_3, GET_DICTIONARY_TEST_PHRASE_3_TRANSLATION)
+                );
+        }
+    }
+
     @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
     @Test
     void testShouldFindDictionaryEntityByEnglishPhrase() {
@@ -187,6 +257,28 @@ class DictionaryRepositoryIT extends BaseTest {
             .isNotPresent();
     }
 
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void testShouldFindAllDictionaryEntitiesByEnglishPhrases() {
+        final List<DictionaryEntity> dictionaryEntities = dictionaryRepository.findAllByEnglishPhraseIn(
+            Set.of(GET_DICTIONARY_TEST_PHRASE_1, GET_DICTIONARY_TEST_PHRASE_2, ENGLISH_PHRASE)
+        );
+
+        assertThat(dictionaryEntities)
+            .extracting(DictionaryEntity::getEnglishPhrase)
+            .containsExactlyInAnyOrder(GET_DICTIONARY_TEST_PHRASE_1, GET_DICTIONARY_TEST_PHRASE_2);
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void testFindAllDictionaryEntitiesByEnglishPhrasesShouldReturnEmptyWhenNoPhrasesArePresent() {
+        final List<DictionaryEntity> dictionaryEntities =
+            dictionaryRepository.findAllByEnglishPhraseIn(Set.of(ENGLISH_PHRASE));
+
+        assertThat(dictionaryEntities)
+            .isEmpty();
+    }
+
     @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
     @Test
     void testShouldFindDictionaryEntityById() {
@@ -225,4 +317,71 @@ class DictionaryRepositoryIT extends BaseTest {
             .isInstanceOf(EnglishPhraseUniqueConstraintException.class);
     }
 
+    @Test
+    @Sql(scripts = DELETE_TRANSLATION_TABLES_SCRIPT)
+    void testSaveAndFindEnglishPhraseTooLongToIndexDirectly() {
+        // GIVEN
+        // NB: random text does not compress, so this would not fit in a btree entry over the phrase itself
+        final String longEnglishPhrase = Stream.generate(() -> UUID.randomUUID().toString())
+            .limit(500)
+            .collect(Collectors.joining(" "));
+        final DictionaryEntity dictionaryEntity = new DictionaryEntity();
+        dictionaryEntity.setEnglishPhrase(longEnglishPhrase);
+
+        // WHEN
+        dictionaryRepository.saveAndFlush(dictionaryEntity);
+
+        // THEN
+        assertThat(dictionaryRepository.findByEnglishPhrase(longEnglishPhrase))
+            .isPresent()
+            .map(DictionaryEntity::getEnglishPhraseDigest)
+            .hasValue(DictionaryEntity.digestOf(longEnglishPhrase));
+        assertThat(dictionaryRepository.findAllByEnglishPhraseIn(Set.of(longEnglishPhrase)))
+            .extracting(DictionaryEntity::getEnglishPhrase)
+            .containsExactly(longEnglishPhrase);
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, ADD_ENGLISH_PHRASE_SCRIPT})
+    void testInsertEnglishPhrasesIfAbsentShouldSkipExistingPhrases() {
+        // GIVEN
+        final String newEnglishPhrase = "New English phrase";
+
+        // WHEN
+        final int numberInserted =
+            dictionaryRepository.insertEnglishPhrasesIfAbsent(Set.of(ENGLISH_PHRASE, newEnglishPhrase));
+
+        // THEN
+        assertEquals(1, numberInserted);
+        assertThat(dictionaryRepository.findAllByEnglishPhraseIn(Set.of(ENGLISH_PHRASE, newEnglishPhrase)))
+            .extracting(DictionaryEntity::getEnglishPhrase, DictionaryEntity::getTranslationPhrase)
+            .containsExactlyInAnyOrder(
+                tuple(ENGLISH_PHRASE, null),
+                tuple(newEnglishPhrase, null)
+            );
+    }
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, ADD_ENGLISH_PHRASE_SCRIPT})
+    void testAddPhraseUsageShouldAccumulateHitsAndKeepLatestRequestTime() {
+        // GIVEN
+        final LocalDateTime earlier = LocalDateTime.of(2026, 10, 17, 9, 0);
+        final LocalDateTime later = earlier.plusHours(1);
+        dictionaryRepository.addPhraseUsage(List.of(new PhraseUsageView(ENGLISH_PHRASE, 2, later)));
+
+        // WHEN
+        final int numberUpdated = dictionaryRepository.addPhraseUsage(List.of(
+            new PhraseUsageView(ENGLISH_PHRASE, 3, earlier),
+            new PhraseUsageView("Phrase not in the dictionary", 1, later)
+        ));
+
+        // THEN
+        assertEquals(1, numberUpdated);
+        final var usage = jdbcTemplate.queryForMap(
+            "select hit_count, last_requested_at from dictionary where english_phrase = ?", ENGLISH_PHRASE
+        );
+        assertEquals(5L, usage.get("hit_count"));
+        assertEquals(later, ((Timestamp) usage.get("last_requested_at")).toLocalDateTime());
+    }
+
 }
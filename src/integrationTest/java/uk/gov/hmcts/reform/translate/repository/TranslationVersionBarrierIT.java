@@ -0,0 +1,70 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.support.TransactionTemplate;
+import uk.gov.hmcts.reform.translate.BaseTest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TranslationVersionBarrierIT extends BaseTest {
+
+    private static final long UPLOAD_DURATION_MILLIS = 500;
+
+    @Autowired
+    TranslationVersionBarrier translationVersionBarrier;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Sql(scripts = DELETE_TRANSLATION_TABLES_SCRIPT)
+    @Test
+    void testCommittedHighWaterMarkWithNoUploads() {
+        assertEquals(0L, translationVersionBarrier.getCommittedHighWaterMark());
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void testCommittedHighWaterMark() {
+        assertEquals(3L, translationVersionBarrier.getCommittedHighWaterMark());
+    }
+
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    @Test
+    void testCommittedHighWaterMarkWaitsForUploadInProgress() throws Exception {
+        final CountDownLatch uploadEntered = new CountDownLatch(1);
+        final CompletableFuture<Void> upload = CompletableFuture.runAsync(
+            () -> transactionTemplate.executeWithoutResult(status -> {
+                translationVersionBarrier.enterUpload();
+                jdbcTemplate.update("insert into translation_upload values (4, now(), 'IdamUser1')");
+                uploadEntered.countDown();
+                sleep(UPLOAD_DURATION_MILLIS);
+            })
+        );
+        assertTrue(uploadEntered.await(10, TimeUnit.SECONDS));
+
+        final long highWaterMark = translationVersionBarrier.getCommittedHighWaterMark();
+
+        // NB: the upload's version is only visible once it has committed
+        assertEquals(4L, highWaterMark);
+        upload.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
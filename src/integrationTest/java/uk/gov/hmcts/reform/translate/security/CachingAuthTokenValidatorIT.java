@@ -0,0 +1,39 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+import uk.gov.hmcts.reform.translate.BaseTest;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.BEARER;
+
+class CachingAuthTokenValidatorIT extends BaseTest {
+
+    private static final String XUI_WEBAPP = "xui_webapp";
+
+    @Autowired
+    private AuthTokenValidator authTokenValidator;
+
+    @Test
+    void shouldCallS2sProviderOncePerToken() {
+
+        // GIVEN
+        // NB: the S2S provider is stood in for by the wiremock-stubs/s2s_details.json stub
+        WireMock.resetAllRequests();
+        final String serviceToken = BEARER + generateDummyS2SToken(XUI_WEBAPP);
+
+        // WHEN
+        final String firstServiceName = authTokenValidator.getServiceName(serviceToken);
+        final String secondServiceName = authTokenValidator.getServiceName(serviceToken);
+
+        // THEN
+        assertThat(authTokenValidator).isInstanceOf(CachingAuthTokenValidator.class);
+        assertThat(firstServiceName).isEqualTo(XUI_WEBAPP);
+        assertThat(secondServiceName).isEqualTo(XUI_WEBAPP);
+        WireMock.verify(1, getRequestedFor(urlEqualTo("/s2s/details")));
+    }
+}
@@ -0,0 +1,77 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.translate.util.KeyGenerator.getRsaJwk;
+
+@Slf4j
+class CachingJwtDecoderBenchmarkIT {
+
+    private static final int WARM_UP_RUNS = 2_000;
+    private static final int MEASURED_RUNS = 10_000;
+
+    @Test
+    void shouldVerifySignatureOncePerToken() throws Exception {
+
+        // GIVEN
+        final RSAKey rsaKey = getRsaJwk();
+        final String token = signedToken(rsaKey);
+        final JwtDecoder nimbusJwtDecoder = NimbusJwtDecoder.withPublicKey(rsaKey.toRSAPublicKey()).build();
+        final AtomicInteger signatureVerifications = new AtomicInteger();
+        final JwtDecoder countingJwtDecoder = jwt -> {
+            signatureVerifications.incrementAndGet();
+            return nimbusJwtDecoder.decode(jwt);
+        };
+        final JwtDecoder cachingJwtDecoder =
+            new CachingJwtDecoder(countingJwtDecoder, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+
+        // WHEN
+        final long uncachedNanos = nanosPerDecode(nimbusJwtDecoder, token);
+        final long cachedNanos = nanosPerDecode(cachingJwtDecoder, token);
+        // NB: timings are logged for comparison only; the cache's effect is asserted by the delegate call count
+        log.info("Decoding a user JWT: {} ns uncached, {} ns cached", uncachedNanos, cachedNanos);
+
+        // THEN
+        assertThat(signatureVerifications).hasValue(1);
+    }
+
+    private static long nanosPerDecode(final JwtDecoder jwtDecoder, final String token) {
+        for (int run = 0; run < WARM_UP_RUNS; run++) {
+            jwtDecoder.decode(token);
+        }
+        final long start = System.nanoTime();
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            jwtDecoder.decode(token);
+        }
+        return (System.nanoTime() - start) / MEASURED_RUNS;
+    }
+
+    private static String signedToken(final RSAKey rsaKey) throws Exception {
+        final JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user@hmcts.net")
+            .issueTime(new Date())
+            .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+            .build();
+        final SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(), claims);
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        return signedJwt.serialize();
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import uk.gov.hmcts.reform.translate.BaseTest;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.springframework.security.oauth2.core.endpoint.OAuth2ParameterNames.ACCESS_TOKEN;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_URL;
+import static uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter.TOKEN_NAME;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSLATIONS_ROLE;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
+import static uk.gov.hmcts.reform.translate.util.KeyGenerator.getRsaJwk;
+
+// NB: through the whole security filter chain, unlike other controller tests
+@AutoConfigureMockMvc
+class IdamUnavailableIT extends BaseTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void shouldAuthenticateUserWhileIdamIsAvailable() throws Exception {
+
+        // GIVEN
+        stubUserInfo(MANAGE_TRANSLATIONS_ROLE);
+
+        // WHEN / THEN
+        mockMvc.perform(get(DICTIONARY_URL)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + signedUserToken())
+                            .header(SERVICE_AUTHORIZATION, "Bearer " + generateDummyS2SToken("xui_webapp")))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRespondServiceUnavailableWhileIdamIsUnavailable() throws Exception {
+
+        // GIVEN
+        stubFor(WireMock.get(urlEqualTo("/o/userinfo")).willReturn(
+            aResponse().withStatus(HttpStatus.INTERNAL_SERVER_ERROR.value())));
+
+        // WHEN / THEN
+        mockMvc.perform(get(DICTIONARY_URL)
+                            .header(HttpHeaders.AUTHORIZATION, "Bearer " + signedUserToken())
+                            .header(SERVICE_AUTHORIZATION, "Bearer " + generateDummyS2SToken("xui_webapp")))
+            .andExpect(status().isServiceUnavailable());
+    }
+
+    private static String signedUserToken() throws Exception {
+        final RSAKey rsaKey = getRsaJwk();
+        final JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user@hmcts.net")
+            .claim(TOKEN_NAME, ACCESS_TOKEN)
+            .issueTime(new Date())
+            .expirationTime(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)))
+            .build();
+        final SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(rsaKey.getKeyID()).build(), claims);
+        signedJwt.sign(new RSASSASigner(rsaKey));
+        return signedJwt.serialize();
+    }
+}
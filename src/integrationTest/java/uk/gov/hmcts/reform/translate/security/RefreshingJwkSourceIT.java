@@ -0,0 +1,33 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import uk.gov.hmcts.reform.translate.BaseTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.translate.util.KeyGenerator.getRsaJwk;
+
+class RefreshingJwkSourceIT extends BaseTest {
+
+    @Autowired
+    private RefreshingJwkSource refreshingJwkSource;
+
+    @Test
+    void shouldFetchSigningKeysFromIdamJwkSet() throws Exception {
+
+        // GIVEN
+        final String keyId = getRsaJwk().getKeyID();
+
+        // WHEN
+        final List<JWK> keys = refreshingJwkSource.get(new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build()),
+                                                       null);
+
+        // THEN
+        assertThat(keys).extracting(JWK::getKeyID).containsExactly(keyId);
+    }
+}
@@ -0,0 +1,94 @@
+package uk.gov.hmcts.reform.translate.security.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.security.SecurityUtils;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATIONS_URL;
+
+@Slf4j
+class PermitAllEndpointFilterBenchmarkIT {
+
+    private static final int HEADER_COUNT = 20;
+    private static final int WARM_UP_RUNS = 20_000;
+    private static final int MEASURED_RUNS = 100_000;
+
+    private final PermitAllEndpointFilter underTest =
+        new PermitAllEndpointFilter(mock(SecurityUtils.class), mock(ApplicationParams.class));
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void shouldFilterTranslateCyRequestsWithoutCopyingHeaders() throws Exception {
+
+        // GIVEN
+        final MockHttpServletRequest translateCyRequest = request("POST", TRANSLATIONS_URL);
+        final MockHttpServletRequest otherRequest = request("GET", "/dictionary");
+        final List<String> headerNamesSeen = new ArrayList<>();
+        // NB: a downstream consumer of the header names, e.g. request logging
+        final FilterChain filterChain = (chainRequest, chainResponse) -> {
+            headerNamesSeen.clear();
+            final Enumeration<String> headerNames = ((HttpServletRequest) chainRequest).getHeaderNames();
+            while (headerNames.hasMoreElements()) {
+                headerNamesSeen.add(headerNames.nextElement());
+            }
+        };
+
+        // WHEN
+        final long translateCyNanos = nanosPerRequest(translateCyRequest, filterChain);
+        final List<String> translateCyHeaderNames = List.copyOf(headerNamesSeen);
+        final long otherNanos = nanosPerRequest(otherRequest, filterChain);
+        log.info("{} with {} headers: {} ns per request through {}, {} ns for other requests",
+                 TRANSLATIONS_URL, HEADER_COUNT + 1, translateCyNanos,
+                 PermitAllEndpointFilter.class.getSimpleName(), otherNanos);
+
+        // THEN
+        assertThat(translateCyHeaderNames)
+            .hasSize(HEADER_COUNT)
+            .doesNotContain(HttpHeaders.AUTHORIZATION);
+        assertThat(headerNamesSeen)
+            .hasSize(HEADER_COUNT + 1)
+            .contains(HttpHeaders.AUTHORIZATION);
+    }
+
+    private long nanosPerRequest(final MockHttpServletRequest request, final FilterChain filterChain)
+        throws Exception {
+        for (int run = 0; run < WARM_UP_RUNS; run++) {
+            underTest.doFilterInternal(request, response, filterChain);
+        }
+        final long start = System.nanoTime();
+        for (int run = 0; run < MEASURED_RUNS; run++) {
+            underTest.doFilterInternal(request, response, filterChain);
+        }
+        return (System.nanoTime() - start) / MEASURED_RUNS;
+    }
+
+    private static MockHttpServletRequest request(final String method, final String servletPath) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, servletPath);
+        request.setServletPath(servletPath);
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer user-token");
+        for (int header = 1; header < HEADER_COUNT; header++) {
+            request.addHeader("X-Benchmark-Header-" + header, "value-" + header);
+        }
+        request.addHeader(HttpHeaders.ACCEPT, "application/json");
+        return request;
+    }
+}
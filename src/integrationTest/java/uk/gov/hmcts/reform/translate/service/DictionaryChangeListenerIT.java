@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import uk.gov.hmcts.reform.translate.BaseTest;
+import uk.gov.hmcts.reform.translate.model.Translation;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.CHANNEL;
+
+@SpringBootTest(properties = {
+    "ts.dictionary-changes.listener.enabled=true",
+    "ts.dictionary-changes.listener.poll-timeout-millis=100"
+})
+class DictionaryChangeListenerIT extends BaseTest {
+
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @Sql(scripts = {DELETE_TRANSLATION_TABLES_SCRIPT, GET_TRANSLATION_TABLES_SCRIPT})
+    void shouldRefreshSnapshotWhenAnotherNodeNotifiesOfAChange() throws InterruptedException {
+
+        // GIVEN
+        // NB: a change made by another node, i.e. without this node publishing any event
+        jdbcTemplate.update("insert into translation_upload values (4, now(), 'IdamUser1')");
+        jdbcTemplate.update("update dictionary set translation_phrase = 'Updated Phrase 1', translation_version = 4 "
+                                + "where english_phrase = ?", GET_DICTIONARY_TEST_PHRASE_1);
+        assertThat(translationSnapshotCache.get(GET_DICTIONARY_TEST_PHRASE_1))
+            .contains(new Translation(GET_DICTIONARY_TEST_PHRASE_1));
+
+        // WHEN
+        final Optional<Translation> translation =
+            notifyUntilRefreshed("[\"" + GET_DICTIONARY_TEST_PHRASE_1 + "\"]");
+
+        // THEN
+        assertThat(translation).contains(new Translation("Updated Phrase 1"));
+    }
+
+    private Optional<Translation> notifyUntilRefreshed(final String payload) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        Optional<Translation> translation = translationSnapshotCache.get(GET_DICTIONARY_TEST_PHRASE_1);
+        // NB: the listener connects in the background, so keep notifying until it has picked the change up
+        while (!translation.map(t -> "Updated Phrase 1".equals(t.getTranslation())).orElse(false)
+            && System.currentTimeMillis() < deadline) {
+            jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+            Thread.sleep(200);
+            translation = translationSnapshotCache.get(GET_DICTIONARY_TEST_PHRASE_1);
+        }
+        return translation;
+    }
+}
@@ -1,4 +1,2 @@
 insert into dictionary values
   (1, 'English phrase', null, null);
-
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 2;
@@ -11,4 +11,3 @@ insert into dictionary values
   (6, 'TEST-delete-me-with-translation-2', 'Translated Phrase 4', 1);
 
 ALTER SEQUENCE translation_version_seq RESTART WITH 3;
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 7;
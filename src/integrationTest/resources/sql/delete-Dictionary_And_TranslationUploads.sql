@@ -2,4 +2,6 @@ delete from dictionary;
 delete from translation_upload;
 
 ALTER SEQUENCE translation_version_seq RESTART WITH 1;
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 1;
+-- NB: dictionary ids are allocated in blocks held by the application, so rather than restarting the sequence keep it
+-- moving forward, clear of the ids used by these fixtures
+SELECT setval('dictionary_id_seq', greatest(1000000, (SELECT last_value FROM dictionary_id_seq)));
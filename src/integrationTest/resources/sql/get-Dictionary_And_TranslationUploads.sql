@@ -11,4 +11,3 @@ insert into dictionary values
  (3, 'English Phrase 3', 'Translated Phrase 1', 3, true, 'Yes Translation', 'No Translation');
 
 ALTER SEQUENCE translation_version_seq RESTART WITH 4;
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 4;
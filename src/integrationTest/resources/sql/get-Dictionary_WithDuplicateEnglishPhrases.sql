@@ -9,4 +9,3 @@ insert into dictionary values
   (3, 'English Phrase 1', 'Translated Phrase 3', 3);
 
 ALTER SEQUENCE translation_version_seq RESTART WITH 4;
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 4;
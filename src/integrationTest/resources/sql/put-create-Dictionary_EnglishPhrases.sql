@@ -7,5 +7,4 @@ insert into dictionary values
   (2, 'english_2', 'translated_2', 1);
 
 ALTER SEQUENCE translation_version_seq RESTART WITH 2;
-ALTER SEQUENCE dictionary_id_seq RESTART WITH 3;
 
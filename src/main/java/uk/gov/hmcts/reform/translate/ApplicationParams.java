@@ -1,9 +1,11 @@
 package uk.gov.hmcts.reform.translate;
 
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 
 @Component
 public class ApplicationParams {
@@ -11,7 +13,151 @@ public class ApplicationParams {
     @Value("#{'${ts.endpoints.put-dictionary.s2s-authorised.bypass-role-authorise-check-for-services}'.split(',')}")
     private List<String> putDictionaryS2sServicesBypassRoleAuthCheck;
 
+    private Set<String> putDictionaryBypassRoleAuthCheckServices;
+
+    @Value("${ts.untranslated-phrases.queue-capacity:10000}")
+    private int untranslatedPhrasesQueueCapacity;
+
+    @Value("${ts.untranslated-phrases.flush-batch-size:1000}")
+    private int untranslatedPhrasesFlushBatchSize;
+
+    @Value("${ts.phrase-usage.flush-batch-size:1000}")
+    private int phraseUsageFlushBatchSize;
+
+    @Value("${ts.dictionary-changes.listener.poll-timeout-millis:10000}")
+    private int dictionaryChangesListenerPollTimeoutMillis;
+
+    @Value("${ts.dictionary-changes.listener.reconnect-delay-millis:5000}")
+    private long dictionaryChangesListenerReconnectDelayMillis;
+
+    @Value("${ts.user-info-cache.maximum-size:10000}")
+    private long userInfoCacheMaximumSize;
+
+    @Value("${ts.user-info-cache.time-to-live-seconds:1800}")
+    private long userInfoCacheTimeToLiveSeconds;
+
+    @Value("${ts.user-info-cache.refresh-after-seconds:300}")
+    private long userInfoCacheRefreshAfterSeconds;
+
+    @Value("${ts.user-info-cache.grace-period-seconds:600}")
+    private long userInfoCacheGracePeriodSeconds;
+
+    @Value("${ts.s2s-token-cache.maximum-size:1000}")
+    private long s2sTokenCacheMaximumSize;
+
+    @Value("${ts.s2s-token-cache.time-to-live-seconds:3600}")
+    private long s2sTokenCacheTimeToLiveSeconds;
+
+    @Value("${ts.jwt-cache.maximum-size:10000}")
+    private long jwtCacheMaximumSize;
+
+    @Value("${ts.jwt-cache.time-to-live-seconds:3600}")
+    private long jwtCacheTimeToLiveSeconds;
+
+    @Value("${ts.jwks.uri:${spring.security.oauth2.client.provider.oidc.issuer-uri}/jwks}")
+    private String jwkSetUri;
+
+    @Value("${ts.jwks.snapshot-path:}")
+    private String jwkSetSnapshotPath;
+
+    @Value("${ts.jwks.min-refetch-interval-seconds:30}")
+    private long jwkSetMinRefetchIntervalSeconds;
+
+    @Value("${ts.jwks.connect-timeout-millis:2000}")
+    private int jwkSetConnectTimeoutMillis;
+
+    @Value("${ts.jwks.read-timeout-millis:3000}")
+    private int jwkSetReadTimeoutMillis;
+
+    @Value("${ts.datasource.replica.max-replay-wait-millis:5000}")
+    private long replicaMaxReplayWaitMillis;
+
+    @PostConstruct
+    void init() {
+        putDictionaryBypassRoleAuthCheckServices = Set.copyOf(putDictionaryS2sServicesBypassRoleAuthCheck);
+    }
+
     public List<String> getPutDictionaryS2sServicesBypassRoleAuthCheck() {
         return putDictionaryS2sServicesBypassRoleAuthCheck;
     }
+
+    public Set<String> getPutDictionaryBypassRoleAuthCheckServices() {
+        return putDictionaryBypassRoleAuthCheckServices;
+    }
+
+    public int getUntranslatedPhrasesQueueCapacity() {
+        return untranslatedPhrasesQueueCapacity;
+    }
+
+    public int getUntranslatedPhrasesFlushBatchSize() {
+        return untranslatedPhrasesFlushBatchSize;
+    }
+
+    public int getPhraseUsageFlushBatchSize() {
+        return phraseUsageFlushBatchSize;
+    }
+
+    public int getDictionaryChangesListenerPollTimeoutMillis() {
+        return dictionaryChangesListenerPollTimeoutMillis;
+    }
+
+    public long getDictionaryChangesListenerReconnectDelayMillis() {
+        return dictionaryChangesListenerReconnectDelayMillis;
+    }
+
+    public long getUserInfoCacheMaximumSize() {
+        return userInfoCacheMaximumSize;
+    }
+
+    public long getUserInfoCacheTimeToLiveSeconds() {
+        return userInfoCacheTimeToLiveSeconds;
+    }
+
+    public long getUserInfoCacheRefreshAfterSeconds() {
+        return userInfoCacheRefreshAfterSeconds;
+    }
+
+    public long getUserInfoCacheGracePeriodSeconds() {
+        return userInfoCacheGracePeriodSeconds;
+    }
+
+    public long getS2sTokenCacheMaximumSize() {
+        return s2sTokenCacheMaximumSize;
+    }
+
+    public long getS2sTokenCacheTimeToLiveSeconds() {
+        return s2sTokenCacheTimeToLiveSeconds;
+    }
+
+    public long getJwtCacheMaximumSize() {
+        return jwtCacheMaximumSize;
+    }
+
+    public long getJwtCacheTimeToLiveSeconds() {
+        return jwtCacheTimeToLiveSeconds;
+    }
+
+    public String getJwkSetUri() {
+        return jwkSetUri;
+    }
+
+    public String getJwkSetSnapshotPath() {
+        return jwkSetSnapshotPath;
+    }
+
+    public long getJwkSetMinRefetchIntervalSeconds() {
+        return jwkSetMinRefetchIntervalSeconds;
+    }
+
+    public int getJwkSetConnectTimeoutMillis() {
+        return jwkSetConnectTimeoutMillis;
+    }
+
+    public int getJwkSetReadTimeoutMillis() {
+        return jwkSetReadTimeoutMillis;
+    }
+
+    public long getReplicaMaxReplayWaitMillis() {
+        return replicaMaxReplayWaitMillis;
+    }
 }
@@ -1,14 +1,22 @@
 package uk.gov.hmcts.reform.translate.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.context.annotation.Primary;
 import uk.gov.hmcts.reform.authorisation.ServiceAuthorisationApi;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGeneratorFactory;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+import uk.gov.hmcts.reform.authorisation.validators.ServiceAuthTokenValidator;
 import uk.gov.hmcts.reform.idam.client.IdamApi;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.security.CachingAuthTokenValidator;
+
+import java.time.Duration;
 
 
 @Lazy
@@ -23,5 +31,18 @@ public class AuthClientConfiguration {
         final ServiceAuthorisationApi serviceAuthorisationApi) {
         return AuthTokenGeneratorFactory.createDefaultGenerator(secret, microService, serviceAuthorisationApi);
     }
+
+    @Bean
+    @Primary
+    public AuthTokenValidator cachingAuthTokenValidator(final ServiceAuthorisationApi serviceAuthorisationApi,
+                                                        final ApplicationParams applicationParams,
+                                                        final MeterRegistry meterRegistry) {
+        return new CachingAuthTokenValidator(
+            new ServiceAuthTokenValidator(serviceAuthorisationApi),
+            applicationParams.getS2sTokenCacheMaximumSize(),
+            Duration.ofSeconds(applicationParams.getS2sTokenCacheTimeToLiveSeconds()),
+            meterRegistry
+        );
+    }
 }
 
@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.translate.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Splits database access between two connection pools: read-only transactions are served by a replica, and everything
+ * else by the primary.
+ *
+ * <p>The primary pool is configured as usual under {@code spring.datasource}, and the replica pool under
+ * {@code ts.datasource.replica.hikari}. Each pool publishes its own {@code hikaricp.*} metrics, tagged with its pool
+ * name. When the replica is not enabled, Spring Boot's single data source is used unchanged.
+ */
+@Configuration
+@ConditionalOnProperty(name = "ts.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfiguration {
+
+    /**
+     * The name of the primary pool: the same as Spring Boot's own data source, so it can be injected by this name
+     * whether or not the replica is enabled.
+     */
+    public static final String PRIMARY_DATA_SOURCE = "dataSource";
+    public static final String REPLICA_DATA_SOURCE = "replicaDataSource";
+
+    @Bean(name = PRIMARY_DATA_SOURCE)
+    @FlywayDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean(name = REPLICA_DATA_SOURCE)
+    @ConfigurationProperties("ts.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource routingDataSource(@Qualifier(PRIMARY_DATA_SOURCE) DataSource primaryDataSource,
+                                        @Qualifier(REPLICA_DATA_SOURCE) DataSource replicaDataSource) {
+        // NB: a connection is only taken from a pool once the transaction has marked it read-only (or not)
+        final LazyConnectionDataSourceProxy routingDataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        routingDataSource.setReadOnlyDataSource(replicaDataSource);
+        return routingDataSource;
+    }
+}
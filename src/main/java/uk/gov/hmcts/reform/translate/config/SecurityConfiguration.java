@@ -1,5 +1,10 @@
 package uk.gov.hmcts.reform.translate.config;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +16,6 @@ import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
-import org.springframework.security.oauth2.jwt.JwtDecoders;
 import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
@@ -19,9 +23,14 @@ import org.springframework.security.oauth2.server.resource.web.authentication.Be
 import org.springframework.security.web.SecurityFilterChain;
 
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.security.CachingJwtDecoder;
+import uk.gov.hmcts.reform.translate.security.IdamAwareAuthenticationEntryPoint;
 import uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter;
-import uk.gov.hmcts.reform.translate.security.filter.PutDictionaryEndpointFilter;
-import uk.gov.hmcts.reform.translate.security.filter.TranslateCyEndpointFilter;
+import uk.gov.hmcts.reform.translate.security.RefreshingJwkSource;
+import uk.gov.hmcts.reform.translate.security.filter.PermitAllEndpointFilter;
+
+import java.time.Duration;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
@@ -29,15 +38,11 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 @EnableWebSecurity
 public class SecurityConfiguration {
 
-    @Value("${spring.security.oauth2.client.provider.oidc.issuer-uri}")
-    private String issuerUri;
-
     @Value("${oidc.issuer}")
     private String issuerOverride;
 
     private final ServiceAuthFilter serviceAuthFilter;
-    private final PutDictionaryEndpointFilter putDictionaryEndpointFilter;
-    private final TranslateCyEndpointFilter translateCyEndpointFilter;
+    private final PermitAllEndpointFilter permitAllEndpointFilter;
     private final JwtAuthenticationConverter jwtAuthenticationConverter;
 
     private static final String[] AUTH_ALLOWED_LIST = {
@@ -55,13 +60,11 @@ public class SecurityConfiguration {
 
     @Autowired
     public SecurityConfiguration(final ServiceAuthFilter serviceAuthFilter,
-                                 final PutDictionaryEndpointFilter putDictionaryEndpointFilter,
-                                 final TranslateCyEndpointFilter translateCyEndpointFilter,
+                                 final PermitAllEndpointFilter permitAllEndpointFilter,
                                  final JwtGrantedAuthoritiesConverter jwtGrantedAuthoritiesConverter) {
         super();
         this.serviceAuthFilter = serviceAuthFilter;
-        this.putDictionaryEndpointFilter = putDictionaryEndpointFilter;
-        this.translateCyEndpointFilter = translateCyEndpointFilter;
+        this.permitAllEndpointFilter = permitAllEndpointFilter;
         jwtAuthenticationConverter = new JwtAuthenticationConverter();
         jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(jwtGrantedAuthoritiesConverter);
     }
@@ -75,24 +78,36 @@ public class SecurityConfiguration {
     protected SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .addFilterBefore(serviceAuthFilter, BearerTokenAuthenticationFilter.class)
-            .addFilterBefore(translateCyEndpointFilter, ServiceAuthFilter.class)
-            .addFilterAfter(putDictionaryEndpointFilter, ServiceAuthFilter.class)
+            .addFilterAfter(permitAllEndpointFilter, ServiceAuthFilter.class)
             .sessionManagement(sm -> sm.sessionCreationPolicy(STATELESS))
             .csrf(csrf -> csrf.disable())
             .formLogin(fl -> fl.disable())
             .logout(l -> l.disable())
             .authorizeHttpRequests(ar -> ar.anyRequest().authenticated())
-            .oauth2ResourceServer(o -> o.jwt(j -> j.jwtAuthenticationConverter(jwtAuthenticationConverter)));
+            .oauth2ResourceServer(o -> o
+                .authenticationEntryPoint(new IdamAwareAuthenticationEntryPoint())
+                .jwt(j -> j.jwtAuthenticationConverter(jwtAuthenticationConverter)));
         return http.build();
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder = JwtDecoders.fromOidcIssuerLocation(issuerUri);
+    JwtDecoder jwtDecoder(final RefreshingJwkSource jwkSource,
+                          final ApplicationParams applicationParams,
+                          final MeterRegistry meterRegistry) {
+        // NB: built from the JWK set URI rather than OIDC discovery, so that startup never waits on IDAM
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+            // claims are validated by the decoder's JWT validator below
+        });
+        NimbusJwtDecoder jwtDecoder = new NimbusJwtDecoder(jwtProcessor);
         OAuth2TokenValidator<Jwt> withTimestamp = new JwtTimestampValidator();
         OAuth2TokenValidator<Jwt> validator = new DelegatingOAuth2TokenValidator<>(withTimestamp);
         jwtDecoder.setJwtValidator(validator);
-        return jwtDecoder;
+        return new CachingJwtDecoder(jwtDecoder,
+                                     applicationParams.getJwtCacheMaximumSize(),
+                                     Duration.ofSeconds(applicationParams.getJwtCacheTimeToLiveSeconds()),
+                                     meterRegistry);
     }
 
 }
@@ -4,6 +4,18 @@ public final class ControllerConstants {
     // DictionaryController
     public static final String DICTIONARY_URL = "/dictionary";
     public static final String TRANSLATIONS_URL = "/translation/cy";
+    public static final String SINCE_VERSION_PARAM = "sinceVersion";
+    public static final String DICTIONARY_ENTRIES_URL = "/dictionary/entries";
+    public static final String AFTER_ID_PARAM = "afterId";
+    public static final String LIMIT_PARAM = "limit";
+    public static final String TRANSLATED_PARAM = "translated";
+    public static final String YES_OR_NO_PARAM = "yesOrNo";
+    public static final String STARTING_WITH_PARAM = "startingWith";
+    public static final String TRANSLATION_VERSION_PARAM = "translationVersion";
+    public static final String DICTIONARY_SEARCH_URL = "/dictionary/search";
+    public static final String QUERY_PARAM = "query";
+    public static final String MODE_PARAM = "mode";
+    public static final String CURSOR_PARAM = "cursor";
 
     // TestingSupportController
     public static final String TESTING_SUPPORT_URL = "/testing-support";
@@ -3,6 +3,7 @@ package uk.gov.hmcts.reform.translate.controllers;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -11,20 +12,43 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.DictionaryPage;
+import uk.gov.hmcts.reform.translate.model.DictionarySearchResults;
+import uk.gov.hmcts.reform.translate.model.SearchMode;
 import uk.gov.hmcts.reform.translate.model.Translation;
 import uk.gov.hmcts.reform.translate.model.TranslationsRequest;
+import uk.gov.hmcts.reform.translate.repository.DictionaryEntryFilter;
 import uk.gov.hmcts.reform.translate.service.DictionaryService;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.AFTER_ID_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.CURSOR_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_ENTRIES_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_SEARCH_URL;
 import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.DICTIONARY_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.LIMIT_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.MODE_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.QUERY_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.SINCE_VERSION_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.STARTING_WITH_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATED_PARAM;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATION_VERSION_PARAM;
 import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.TRANSLATIONS_URL;
+import static uk.gov.hmcts.reform.translate.controllers.ControllerConstants.YES_OR_NO_PARAM;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_CURSOR;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_PAGE_SIZE;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SCHEMA;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SEARCH_QUERY;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.WELSH_NOT_ALLOWED;
 import static uk.gov.hmcts.reform.translate.errorhandling.AuthError.AUTHENTICATION_TOKEN_INVALID;
 import static uk.gov.hmcts.reform.translate.errorhandling.AuthError.UNAUTHORISED_S2S_SERVICE;
@@ -47,17 +71,108 @@ public class DictionaryController {
     @ResponseStatus(HttpStatus.OK)
     @Operation(summary = "Download a set of phrases potentially associated with a case type for which translations "
         + "will be eventually added.",
-        description = "Users calling this endpoint must have the `" + MANAGE_TRANSLATIONS_ROLE + "` role",
+        description = "Users calling this endpoint must have the `" + MANAGE_TRANSLATIONS_ROLE + "` role\n\n"
+            + "Pass `" + SINCE_VERSION_PARAM + "` to download only the translations uploaded since an earlier "
+            + "download. Such a download does not include new untranslated phrases, deleted phrases, or changes to "
+            + "only the yes/no fields of a phrase that was not translated in the same upload: a full download is "
+            + "needed to pick those up",
         responses = {
-            @ApiResponse(responseCode = "200", description = "Dictionary returned successfully"),
+            @ApiResponse(responseCode = "200", description = "Dictionary returned successfully",
+                content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = Dictionary.class))),
             @ApiResponse(responseCode = "401", description = AUTHENTICATION_TOKEN_INVALID, content = @Content()),
             @ApiResponse(responseCode = "403", description = "One of the following reasons:\n"
                 + "1. " + UNAUTHORISED_S2S_SERVICE + "\n"
                 + "2. " + "User does not have '" + MANAGE_TRANSLATIONS_ROLE + "' role.",
                 content = @Content())
         })
-    public Dictionary getDictionary() {
-        return new Dictionary(dictionaryService.getDictionaryContents());
+    public void getDictionary(@RequestParam(name = SINCE_VERSION_PARAM, required = false)
+                              @Parameter(description = "Only return the translations uploaded after this version, "
+                                  + "as returned in the `version` field of an earlier download") Long sinceVersion,
+                              @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        dictionaryService.writeDictionaryContents(response.getOutputStream(), sinceVersion);
+    }
+
+    @GetMapping(path = DICTIONARY_ENTRIES_URL, produces = APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Browse the dictionary a page at a time, optionally filtering the entries.",
+        description = "Users calling this endpoint must have the `" + MANAGE_TRANSLATIONS_ROLE + "` role\n\n"
+            + "Entries are returned in id order: pass the `nextAfterId` of a page as `" + AFTER_ID_PARAM + "` to get "
+            + "the next page. There are no more pages once `nextAfterId` is not returned",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Page of the dictionary returned successfully",
+                content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = DictionaryPage.class))),
+            @ApiResponse(responseCode = "400", description = BAD_PAGE_SIZE, content = @Content()),
+            @ApiResponse(responseCode = "401", description = AUTHENTICATION_TOKEN_INVALID, content = @Content()),
+            @ApiResponse(responseCode = "403", description = "One of the following reasons:\n"
+                + "1. " + UNAUTHORISED_S2S_SERVICE + "\n"
+                + "2. " + "User does not have '" + MANAGE_TRANSLATIONS_ROLE + "' role.",
+                content = @Content())
+        })
+    public DictionaryPage getDictionaryEntries(@RequestParam(name = AFTER_ID_PARAM, required = false)
+                                               @Parameter(description = "Only return the entries after the one with "
+                                                   + "this id, as returned in the `nextAfterId` field of the previous "
+                                                   + "page") Long afterId,
+                                               @RequestParam(name = LIMIT_PARAM, defaultValue = "100")
+                                               @Parameter(description = "The most entries to return, up to "
+                                                   + DictionaryService.MAX_PAGE_SIZE) int limit,
+                                               @RequestParam(name = TRANSLATED_PARAM, required = false)
+                                               @Parameter(description = "Only return the entries with (or, if false, "
+                                                   + "without) a translation") Boolean translated,
+                                               @RequestParam(name = YES_OR_NO_PARAM, required = false)
+                                               @Parameter(description = "Only return the entries that are (or, if "
+                                                   + "false, are not) yes or no questions") Boolean yesOrNo,
+                                               @RequestParam(name = STARTING_WITH_PARAM, required = false)
+                                               @Parameter(description = "Only return the entries whose English "
+                                                   + "phrase starts with this prefix") String startingWith,
+                                               @RequestParam(name = TRANSLATION_VERSION_PARAM, required = false)
+                                               @Parameter(description = "Only return the entries last translated by "
+                                                   + "the upload with this version") Long translationVersion) {
+        return dictionaryService.getDictionaryPage(
+            new DictionaryEntryFilter(translated, yesOrNo, startingWith, translationVersion), afterId, limit
+        );
+    }
+
+    @GetMapping(path = DICTIONARY_SEARCH_URL, produces = APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Search the English and Welsh phrases of the dictionary.",
+        description = "Users calling this endpoint must have the `" + MANAGE_TRANSLATIONS_ROLE + "` role\n\n"
+            + "\t - `SUBSTRING` finds the entries whose phrases contain the query, ignoring case, in id order\n\n"
+            + "\t - `SIMILARITY` finds the entries whose phrases contain words similar to the query, most similar "
+            + "first\n\n"
+            + "Pass the `nextCursor` of a page as `" + CURSOR_PARAM + "`, with the same query and mode, to get the "
+            + "next page. There are no more pages once `nextCursor` is not returned",
+        responses = {
+            @ApiResponse(responseCode = "200", description = "Search results returned successfully",
+                content = @Content(mediaType = APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = DictionarySearchResults.class))),
+            @ApiResponse(responseCode = "400", description = "One of the following reasons:\n"
+                + "1. " + BAD_SEARCH_QUERY + "\n"
+                + "2. " + BAD_PAGE_SIZE + "\n"
+                + "3. " + BAD_CURSOR + "\n",
+                content = @Content()),
+            @ApiResponse(responseCode = "401", description = AUTHENTICATION_TOKEN_INVALID, content = @Content()),
+            @ApiResponse(responseCode = "403", description = "One of the following reasons:\n"
+                + "1. " + UNAUTHORISED_S2S_SERVICE + "\n"
+                + "2. " + "User does not have '" + MANAGE_TRANSLATIONS_ROLE + "' role.",
+                content = @Content())
+        })
+    public DictionarySearchResults searchDictionary(@RequestParam(name = QUERY_PARAM)
+                                                    @Parameter(description = "The text to search for, of at least "
+                                                        + DictionaryService.MIN_SEARCH_QUERY_LENGTH + " characters")
+                                                    String query,
+                                                    @RequestParam(name = MODE_PARAM, defaultValue = "SUBSTRING")
+                                                    @Parameter(description = "How to match the query") SearchMode mode,
+                                                    @RequestParam(name = CURSOR_PARAM, required = false)
+                                                    @Parameter(description = "Continue from the previous page, as "
+                                                        + "returned in its `nextCursor` field") String cursor,
+                                                    @RequestParam(name = LIMIT_PARAM, defaultValue = "100")
+                                                    @Parameter(description = "The most entries to return, up to "
+                                                        + DictionaryService.MAX_PAGE_SIZE) int limit) {
+        return dictionaryService.searchDictionary(query, mode, cursor, limit);
     }
 
     @PutMapping(path = DICTIONARY_URL, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE)
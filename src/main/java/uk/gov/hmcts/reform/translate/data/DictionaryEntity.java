@@ -13,6 +13,10 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
 @Table(name = "dictionary")
 @Entity
 @Data
@@ -20,13 +24,17 @@ public class DictionaryEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "dictionary_id_gen")
-    @SequenceGenerator(name = "dictionary_id_gen", sequenceName = "dictionary_id_seq", allocationSize = 1)
+    @SequenceGenerator(name = "dictionary_id_gen", sequenceName = "dictionary_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
     @Column(name = "english_phrase")
     private String englishPhrase;
 
+    // NB: maintained by a database trigger from english_phrase
+    @Column(name = "english_phrase_digest", insertable = false, updatable = false)
+    private byte[] englishPhraseDigest;
+
     @Column(name = "translation_phrase")
     private String translationPhrase;
 
@@ -46,4 +54,16 @@ public class DictionaryEntity {
     public boolean isYesOrNo() {
         return yesOrNo == null ? false : yesOrNo.booleanValue();
     }
+
+    /**
+     * Calculates the digest the database holds for an English phrase, i.e. SHA-256 of its UTF-8 bytes.
+     */
+    public static byte[] digestOf(final String englishPhrase) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(englishPhrase.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // NB: every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
 }
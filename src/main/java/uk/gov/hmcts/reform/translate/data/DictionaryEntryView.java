@@ -0,0 +1,13 @@
+package uk.gov.hmcts.reform.translate.data;
+
+/**
+ * Read-only projection of a {@link DictionaryEntity} for paging through the dictionary.
+ */
+public record DictionaryEntryView(Long id,
+                                  String englishPhrase,
+                                  String translationPhrase,
+                                  Boolean yesOrNo,
+                                  String yes,
+                                  String no,
+                                  Long translationVersion) {
+}
@@ -0,0 +1,7 @@
+package uk.gov.hmcts.reform.translate.data;
+
+/**
+ * A dictionary entry found by a similarity search, with how closely it matched: from 0 (not at all) to 1 (exactly).
+ */
+public record DictionarySimilarityMatchView(DictionaryEntryView entry, float similarity) {
+}
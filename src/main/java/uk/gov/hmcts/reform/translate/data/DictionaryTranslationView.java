@@ -0,0 +1,16 @@
+package uk.gov.hmcts.reform.translate.data;
+
+/**
+ * Read-only projection of a {@link DictionaryEntity} for exporting the dictionary: as it is not a managed entity,
+ * streaming these holds nothing in the persistence context.
+ */
+public record DictionaryTranslationView(String englishPhrase,
+                                        String translationPhrase,
+                                        Boolean yesOrNo,
+                                        String yes,
+                                        String no) {
+
+    public boolean isYesOrNo() {
+        return yesOrNo != null && yesOrNo;
+    }
+}
@@ -0,0 +1,9 @@
+package uk.gov.hmcts.reform.translate.data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Requests for translation of an English phrase since its usage was last added to the dictionary.
+ */
+public record PhraseUsageView(String englishPhrase, long hitCount, LocalDateTime lastRequestedAt) {
+}
@@ -7,6 +7,12 @@ public class BadRequestError {
     public static final String WELSH_NOT_ALLOWED =
         "Bad Request (002 Welsh not allowed for this user)";
 
+    public static final String BAD_PAGE_SIZE = "Bad Request (003 page size must be between 1 and 1000)";
+
+    public static final String BAD_SEARCH_QUERY = "Bad Request (004 search query must be at least 3 characters)";
+
+    public static final String BAD_CURSOR = "Bad Request (005 invalid cursor)";
+
     // Hide Utility Class Constructor : Utility classes should not have a public or default constructor (squid:S1118)
     private BadRequestError() {
     }
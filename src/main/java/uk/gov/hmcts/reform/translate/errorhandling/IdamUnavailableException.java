@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.translate.errorhandling;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+@ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+public class IdamUnavailableException extends ApiException {
+
+    public static final String ERROR_MESSAGE = "IDAM is unavailable";
+
+    @Serial
+    private static final long serialVersionUID = 4186517264935173905L;
+
+    public IdamUnavailableException(Throwable cause) {
+        super(ERROR_MESSAGE, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.translate.errorhandling;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+import java.io.Serial;
+
+@ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+public class ReplicaLagException extends ApiException {
+
+    public static final String ERROR_MESSAGE = "The database replica is behind the primary";
+
+    @Serial
+    private static final long serialVersionUID = 6523087946241880561L;
+
+    public ReplicaLagException() {
+        super(ERROR_MESSAGE);
+    }
+}
@@ -3,7 +3,10 @@ package uk.gov.hmcts.reform.translate.helper;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.util.CollectionUtils;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntryView;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.DictionaryEntry;
 import uk.gov.hmcts.reform.translate.model.Translation;
 
 import java.util.Map;
@@ -37,6 +40,43 @@ public final class DictionaryUtils {
             );
     }
 
+    public static Translation toTranslation(final DictionaryEntity dictionaryEntity) {
+        if (dictionaryEntity.getTranslationPhrase() == null) {
+            return new Translation(dictionaryEntity.getEnglishPhrase());
+        }
+
+        return new Translation(
+            dictionaryEntity.getTranslationPhrase(),
+            dictionaryEntity.getYesOrNo(),
+            dictionaryEntity.getYes(),
+            dictionaryEntity.getNo()
+        );
+    }
+
+    public static Translation toExportedTranslation(final DictionaryTranslationView dictionaryTranslation) {
+        if (dictionaryTranslation.isYesOrNo()) {
+            return new Translation(
+                StringUtils.defaultString(dictionaryTranslation.translationPhrase()),
+                true,
+                StringUtils.defaultString(dictionaryTranslation.yes()),
+                StringUtils.defaultString(dictionaryTranslation.no())
+            );
+        }
+        return new Translation(StringUtils.defaultString(dictionaryTranslation.translationPhrase()));
+    }
+
+    public static DictionaryEntry toDictionaryEntry(final DictionaryEntryView dictionaryEntry) {
+        return new DictionaryEntry(
+            dictionaryEntry.id(),
+            dictionaryEntry.englishPhrase(),
+            dictionaryEntry.translationPhrase(),
+            dictionaryEntry.yesOrNo(),
+            dictionaryEntry.yes(),
+            dictionaryEntry.no(),
+            dictionaryEntry.translationVersion()
+        );
+    }
+
     // Hide Utility Class Constructor : Utility classes should not have a public or default constructor (squid:S1118)
     private DictionaryUtils() {
     }
@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.translate.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -26,4 +27,14 @@ public class Dictionary {
                 + "}"
     )
     Map<String, Translation> translations;
+
+    @Schema(description = "Only returned when downloading the dictionary: the latest translation upload version it "
+        + "includes, to pass as `sinceVersion` to download just the translations changed since",
+        example = "42", accessMode = Schema.AccessMode.READ_ONLY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    Long version;
+
+    public Dictionary(Map<String, Translation> translations) {
+        this.translations = translations;
+    }
 }
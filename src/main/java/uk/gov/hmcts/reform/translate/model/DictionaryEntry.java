@@ -0,0 +1,36 @@
+package uk.gov.hmcts.reform.translate.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DictionaryEntry {
+
+    @Schema(description = "The entry's id, to pass as `afterId` to continue paging from this entry", example = "42")
+    private Long id;
+
+    @Schema(description = "The English phrase", example = "English phrase 1")
+    private String englishPhrase;
+
+    @Schema(description = "The Welsh translation, if there is one", example = "Welsh translation 1")
+    private String translation;
+
+    @Schema(description = "Whether the phrase is a yes or no question", example = "true")
+    private Boolean yesOrNo;
+
+    @Schema(description = "The Welsh translation of yes, for a yes or no question", example = "Welsh Yes Translation")
+    private String yes;
+
+    @Schema(description = "The Welsh translation of no, for a yes or no question", example = "Welsh No Translation")
+    private String no;
+
+    @Schema(description = "The version of the upload that last translated the phrase, if it has been translated",
+        example = "7")
+    private Long translationVersion;
+}
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.translate.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionaryPage {
+
+    @Schema(description = "The dictionary entries on this page, in id order")
+    private List<DictionaryEntry> entries;
+
+    @Schema(description = "Only returned when there are more entries: the id to pass as `afterId` to get the next page",
+        example = "42")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long nextAfterId;
+}
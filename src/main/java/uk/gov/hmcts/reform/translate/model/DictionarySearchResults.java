@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.translate.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DictionarySearchResults {
+
+    @Schema(description = "The dictionary entries matching the search: in id order for a substring search, or most "
+        + "similar first for a similarity search")
+    private List<DictionaryEntry> entries;
+
+    @Schema(description = "Only returned when there are more results: the cursor to pass, with the same query and "
+        + "mode, to get the next page", example = "0.8_42")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+}
@@ -0,0 +1,12 @@
+package uk.gov.hmcts.reform.translate.model;
+
+public enum SearchMode {
+    /**
+     * Entries whose English or Welsh phrase contains the query, ignoring case, in id order.
+     */
+    SUBSTRING,
+    /**
+     * Entries whose English or Welsh phrase contains words similar to the query, most similar first.
+     */
+    SIMILARITY
+}
@@ -9,10 +9,17 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
 import uk.gov.hmcts.reform.translate.errorhandling.EnglishPhraseUniqueConstraintException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 
 @Qualifier(DefaultDictionaryRepository.QUALIFIER)
 @Repository
@@ -22,7 +29,13 @@ public class DefaultDictionaryRepository implements DictionaryRepository {
 
     public static final String QUALIFIER = "default";
 
-    protected static final String ENGLISH_PHRASE_UNIQUE_CONSTRAINT = "english_phrase_unique";
+    protected static final String ENGLISH_PHRASE_UNIQUE_CONSTRAINT = "english_phrase_digest_unique";
+
+    // NB: keeps each IN-list well inside the JDBC driver's bind parameter limit
+    protected static final int ENGLISH_PHRASE_BATCH_SIZE = 1000;
+
+    // NB: caps how many rows each delete locks, and how much WAL it writes, before it commits
+    protected static final int DELETE_CHUNK_SIZE = 1000;
 
     private final DictionaryRepository dictionaryRepository;
 
@@ -37,19 +50,54 @@ public class DefaultDictionaryRepository implements DictionaryRepository {
         return dictionaryRepository.findAll();
     }
 
+    @Override
+    public Stream<DictionaryTranslationView> streamAllTranslations() {
+        return dictionaryRepository.streamAllTranslations();
+    }
+
+    @Override
+    public Stream<DictionaryTranslationView> streamAllTranslationsSince(Long translationVersion) {
+        return dictionaryRepository.streamAllTranslationsSince(translationVersion);
+    }
+
     @Override
     public Optional<DictionaryEntity> findByEnglishPhrase(String englishPhrase) {
         return dictionaryRepository.findByEnglishPhrase(englishPhrase);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<DictionaryEntity> findAllByEnglishPhraseIn(Collection<String> englishPhrases) {
+        final List<DictionaryEntity> results = new ArrayList<>(englishPhrases.size());
+        partition(englishPhrases)
+            .forEach(batch -> results.addAll(dictionaryRepository.findAllByEnglishPhraseIn(batch)));
+        return results;
+    }
+
     @Override
     public Optional<DictionaryEntity> findById(Long id) {
         return dictionaryRepository.findById(id);
     }
 
+    /**
+     * Deletes the entries in chunks of {@value #DELETE_CHUNK_SIZE}, each in its own transaction.
+     */
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public long deleteByEnglishPhraseStartingWith(String startingWith) {
-        return dictionaryRepository.deleteByEnglishPhraseStartingWith(startingWith);
+        long deleteCount = 0;
+        int chunkDeleteCount;
+        do {
+            chunkDeleteCount = dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(startingWith,
+                                                                                           DELETE_CHUNK_SIZE);
+            deleteCount += chunkDeleteCount;
+        } while (chunkDeleteCount == DELETE_CHUNK_SIZE);
+        return deleteCount;
+    }
+
+    @Override
+    public int deleteChunkByEnglishPhraseStartingWith(String startingWith, int chunkSize) {
+        return dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(startingWith, chunkSize);
     }
 
     @Override
@@ -58,18 +106,57 @@ public class DefaultDictionaryRepository implements DictionaryRepository {
         try {
             return dictionaryRepository.saveAndFlush(entity);
         } catch (DataIntegrityViolationException e) {
-            if (e.getCause() instanceof ConstraintViolationException
-                && isDuplicateEnglishPhrase(e)) {
-
-                log.info("CONFLICT: Failed to save phrase due to constraint violation");
-                throw new EnglishPhraseUniqueConstraintException(
-                    "Failed to save phrase due to constraint violation", e
-                );
-            } else {
-                // rethrow as this is not the exception we were looking for
-                throw e;
-            }
+            throw translateDuplicateEnglishPhrase(e);
+        }
+    }
+
+    @Override
+    public <S extends DictionaryEntity> List<S> saveAllAndFlush(Iterable<S> entities) {
+
+        try {
+            return dictionaryRepository.saveAllAndFlush(entities);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicateEnglishPhrase(e);
+        }
+    }
+
+    @Override
+    public int insertEnglishPhrasesIfAbsent(Collection<String> englishPhrases) {
+        // NB: sorted so concurrent inserts of overlapping phrases take their index locks in the same order
+        return partition(new TreeSet<>(englishPhrases)).stream()
+            .mapToInt(dictionaryRepository::insertEnglishPhrasesIfAbsent)
+            .sum();
+    }
+
+    @Override
+    public int addPhraseUsage(Collection<PhraseUsageView> phraseUsages) {
+        // NB: sorted so concurrent updates of overlapping phrases lock their rows in the same order
+        return partition(phraseUsages.stream().sorted(Comparator.comparing(PhraseUsageView::englishPhrase)).toList())
+            .stream()
+            .mapToInt(dictionaryRepository::addPhraseUsage)
+            .sum();
+    }
+
+    private static <T> List<List<T>> partition(Collection<T> items) {
+        final List<T> phrases = List.copyOf(items);
+        final List<List<T>> batches = new ArrayList<>();
+        for (int from = 0; from < phrases.size(); from += ENGLISH_PHRASE_BATCH_SIZE) {
+            batches.add(phrases.subList(from, Math.min(from + ENGLISH_PHRASE_BATCH_SIZE, phrases.size())));
+        }
+        return batches;
+    }
+
+    private RuntimeException translateDuplicateEnglishPhrase(DataIntegrityViolationException e) {
+        if (e.getCause() instanceof ConstraintViolationException
+            && isDuplicateEnglishPhrase(e)) {
+
+            log.info("CONFLICT: Failed to save phrase due to constraint violation");
+            return new EnglishPhraseUniqueConstraintException(
+                "Failed to save phrase due to constraint violation", e
+            );
         }
+        // rethrow as this is not the exception we were looking for
+        return e;
     }
 
     private boolean isDuplicateEnglishPhrase(DataIntegrityViolationException e) {
@@ -0,0 +1,23 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Filters for paging through the dictionary: each one left {@code null} matches every entry.
+ *
+ * @param translated         whether the entry has a translation
+ * @param yesOrNo            whether the entry is a yes or no question
+ * @param startingWith       prefix of the entry's English phrase
+ * @param translationVersion the upload version that last translated the entry
+ */
+public record DictionaryEntryFilter(Boolean translated,
+                                    Boolean yesOrNo,
+                                    String startingWith,
+                                    Long translationVersion) {
+
+    public static final DictionaryEntryFilter NONE = new DictionaryEntryFilter(null, null, null, null);
+
+    public DictionaryEntryFilter {
+        startingWith = StringUtils.isEmpty(startingWith) ? null : startingWith;
+    }
+}
@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntryView;
+import uk.gov.hmcts.reform.translate.data.DictionarySimilarityMatchView;
+
+import java.util.List;
+
+/**
+ * Reads the dictionary a page at a time, in id order, continuing from the last id of the previous page.
+ *
+ * <p>Each filter is written as the predicate of an index on {@code dictionary.id} (or, for the upload version, on the
+ * version then id), so a page is read straight from the index without visiting the entries on earlier pages, however
+ * large the dictionary grows. The English prefix is matched through the index on the start of each phrase.
+ *
+ * <p>Searches of the English and Welsh phrases are served by their trigram indexes, so cost in proportion to the number
+ * of entries matched rather than the size of the dictionary.
+ */
+@Repository
+public class DictionaryPageRepository {
+
+    private static final String ENTRY_COLUMNS =
+        "id, english_phrase, translation_phrase, yes_or_no, yes, no, translation_version";
+
+    private static final String SELECT_ENTRIES = "SELECT " + ENTRY_COLUMNS + " FROM dictionary WHERE id > :afterId";
+
+    private static final String SELECT_ENTRIES_CONTAINING = "SELECT " + ENTRY_COLUMNS + " FROM dictionary "
+        + "WHERE (english_phrase ILIKE :pattern OR translation_phrase ILIKE :pattern) AND id > :afterId "
+        + "ORDER BY id LIMIT :limit";
+
+    // NB: keyset on (similarity, id), as the results are ordered by similarity first
+    private static final String SELECT_ENTRIES_SIMILAR_TO = "SELECT * FROM ("
+        + "SELECT " + ENTRY_COLUMNS + ", greatest(word_similarity(:query, english_phrase), "
+        + "word_similarity(:query, translation_phrase)) AS similarity FROM dictionary "
+        + "WHERE :query <% english_phrase OR :query <% translation_phrase) matches "
+        + "WHERE similarity < :afterSimilarity OR (similarity = :afterSimilarity AND id > :afterId) "
+        + "ORDER BY similarity DESC, id LIMIT :limit";
+
+    private static final RowMapper<DictionaryEntryView> DICTIONARY_ENTRY_MAPPER = (resultSet, rowNum) ->
+        new DictionaryEntryView(
+            resultSet.getLong("id"),
+            resultSet.getString("english_phrase"),
+            resultSet.getString("translation_phrase"),
+            resultSet.getObject("yes_or_no", Boolean.class),
+            resultSet.getString("yes"),
+            resultSet.getString("no"),
+            resultSet.getObject("translation_version", Long.class)
+        );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public DictionaryPageRepository(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Finds up to the given number of entries matching the filter whose ids are after the given id, in id order.
+     */
+    public List<DictionaryEntryView> findPage(DictionaryEntryFilter filter, long afterId, int limit) {
+        final StringBuilder sql = new StringBuilder(SELECT_ENTRIES);
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("afterId", afterId)
+            .addValue("limit", limit);
+
+        if (filter.translated() != null) {
+            sql.append(filter.translated()
+                           ? " AND translation_phrase IS NOT NULL"
+                           : " AND translation_phrase IS NULL");
+        }
+        if (filter.yesOrNo() != null) {
+            sql.append(filter.yesOrNo() ? " AND yes_or_no" : " AND yes_or_no IS NOT TRUE");
+        }
+        if (filter.startingWith() != null) {
+            final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of(filter.startingWith());
+            sql.append(" AND left(english_phrase, 64) COLLATE \"C\" >= :lowerBound");
+            if (range.upperBound() != null) {
+                sql.append(" AND left(english_phrase, 64) COLLATE \"C\" < :upperBound");
+                parameters.addValue("upperBound", range.upperBound());
+            }
+            sql.append(" AND starts_with(english_phrase, :startingWith)");
+            parameters
+                .addValue("lowerBound", range.lowerBound())
+                .addValue("startingWith", filter.startingWith());
+        }
+        if (filter.translationVersion() != null) {
+            sql.append(" AND translation_version = :translationVersion");
+            parameters.addValue("translationVersion", filter.translationVersion());
+        }
+        sql.append(" ORDER BY id LIMIT :limit");
+
+        return jdbcTemplate.query(sql.toString(), parameters, DICTIONARY_ENTRY_MAPPER);
+    }
+
+    /**
+     * Finds up to the given number of entries whose English or Welsh phrase contains the query, ignoring case, whose
+     * ids are after the given id, in id order.
+     */
+    public List<DictionaryEntryView> findPageContaining(String query, long afterId, int limit) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("pattern", "%" + escapeLikePattern(query) + "%")
+            .addValue("afterId", afterId)
+            .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_ENTRIES_CONTAINING, parameters, DICTIONARY_ENTRY_MAPPER);
+    }
+
+    /**
+     * Finds up to the given number of entries with a word similar to the query in their English or Welsh phrase, most
+     * similar first, continuing from the entry with the given similarity and id.
+     */
+    public List<DictionarySimilarityMatchView> findPageSimilarTo(String query,
+                                                                 float afterSimilarity,
+                                                                 long afterId,
+                                                                 int limit) {
+        final MapSqlParameterSource parameters = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("afterSimilarity", afterSimilarity)
+            .addValue("afterId", afterId)
+            .addValue("limit", limit);
+        return jdbcTemplate.query(SELECT_ENTRIES_SIMILAR_TO, parameters, (resultSet, rowNum) ->
+            new DictionarySimilarityMatchView(DICTIONARY_ENTRY_MAPPER.mapRow(resultSet, rowNum),
+                                              resultSet.getFloat("similarity")));
+    }
+
+    private static String escapeLikePattern(final String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
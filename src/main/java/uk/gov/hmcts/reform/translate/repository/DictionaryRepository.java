@@ -4,9 +4,13 @@ import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @Transactional(propagation = Propagation.REQUIRED)
@@ -14,12 +18,53 @@ public interface DictionaryRepository  {
 
     List<DictionaryEntity> findAll();
 
+    /**
+     * Streams every dictionary entry from a server-side cursor. The stream must be consumed, and closed, within the
+     * caller's transaction.
+     */
+    Stream<DictionaryTranslationView> streamAllTranslations();
+
+    /**
+     * As {@link #streamAllTranslations()}, but only the entries translated by uploads after the given version.
+     *
+     * <p>NB: an entry only gets a new upload version when it is translated, so a change to just its yes/no fields,
+     * made without translating it in the same upload, is not included.
+     */
+    Stream<DictionaryTranslationView> streamAllTranslationsSince(Long translationVersion);
+
     Optional<DictionaryEntity> findByEnglishPhrase(String englishPhrase);
 
+    List<DictionaryEntity> findAllByEnglishPhraseIn(Collection<String> englishPhrases);
+
     Optional<DictionaryEntity> findById(Long id);
 
     long deleteByEnglishPhraseStartingWith(String startingWith);
 
+    /**
+     * Deletes, in a single statement, up to the given number of entries whose English phrase starts with the prefix.
+     *
+     * @return the number of entries deleted
+     */
+    int deleteChunkByEnglishPhraseStartingWith(String startingWith, int chunkSize);
+
     <S extends DictionaryEntity> S saveAndFlush(S entity);
 
+    <S extends DictionaryEntity> List<S> saveAllAndFlush(Iterable<S> entities);
+
+    /**
+     * Adds any of the supplied English phrases that are not yet in the dictionary, silently skipping those that
+     * already exist (including any added concurrently by another transaction).
+     *
+     * @return the number of phrases actually added
+     */
+    int insertEnglishPhrasesIfAbsent(Collection<String> englishPhrases);
+
+    /**
+     * Adds each phrase's hits to its hit count, and moves its last requested time forward to the given time if that
+     * is later. Phrases not in the dictionary are skipped.
+     *
+     * @return the number of entries updated
+     */
+    int addPhraseUsage(Collection<PhraseUsageView> phraseUsages);
+
 }
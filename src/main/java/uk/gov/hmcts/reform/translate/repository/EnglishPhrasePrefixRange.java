@@ -0,0 +1,32 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+/**
+ * The range of indexed prefixes that phrases starting with a given prefix fall into, for lookups through the index on
+ * the start of each English phrase: from the (indexed length of the) prefix up to, but not including, the same with its
+ * last character incremented.
+ *
+ * <p>Characters are counted and incremented by code point, as Postgres does, so a prefix ending in a supplementary
+ * character (e.g. an emoji) is not split between its surrogates. There is no upper bound when the last character is
+ * the highest code point, as nothing sorts after it.
+ */
+record EnglishPhrasePrefixRange(String lowerBound, String upperBound) {
+
+    // NB: must match the length indexed by dictionary_english_phrase_prefix_idx
+    static final int INDEX_LENGTH = 64;
+
+    static EnglishPhrasePrefixRange of(final String startingWith) {
+        if (startingWith.isEmpty()) {
+            throw new IllegalArgumentException("A prefix is required to find phrases by prefix");
+        }
+        final int indexedLength = Math.min(startingWith.codePointCount(0, startingWith.length()), INDEX_LENGTH);
+        final String lowerBound = startingWith.substring(0, startingWith.offsetByCodePoints(0, indexedLength));
+        final int lastStart = lowerBound.offsetByCodePoints(lowerBound.length(), -1);
+        final int last = lowerBound.codePointAt(lastStart);
+        if (last == Character.MAX_CODE_POINT) {
+            return new EnglishPhrasePrefixRange(lowerBound, null);
+        }
+        // NB: surrogates are not characters in their own right, so the code point after them is the next one
+        final int next = last + 1 == Character.MIN_SURROGATE ? Character.MAX_SURROGATE + 1 : last + 1;
+        return new EnglishPhrasePrefixRange(lowerBound, lowerBound.substring(0, lastStart) + Character.toString(next));
+    }
+}
@@ -1,20 +1,129 @@
 package uk.gov.hmcts.reform.translate.repository;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Qualifier(JpaDictionaryRepository.QUALIFIER)
 @Repository
 @Transactional(propagation = Propagation.REQUIRED)
 public interface JpaDictionaryRepository extends JpaRepository<DictionaryEntity, Long>, DictionaryRepository {
     String QUALIFIER = "jpa";
+    String STREAM_FETCH_SIZE = "1000";
 
     @Override
     @SuppressWarnings("NullableProblems")
     <S extends DictionaryEntity>  S saveAndFlush(S entity);
 
+    @Override
+    @SuppressWarnings("NullableProblems")
+    <S extends DictionaryEntity> List<S> saveAllAndFlush(Iterable<S> entities);
+
+    // NB: fetch the upload in the same query rather than one extra select per upload version
+    @Override
+    @SuppressWarnings("NullableProblems")
+    @EntityGraph(attributePaths = "translationUpload")
+    List<DictionaryEntity> findAll();
+
+    @Override
+    @Query("select new uk.gov.hmcts.reform.translate.data.DictionaryTranslationView("
+        + "d.englishPhrase, d.translationPhrase, d.yesOrNo, d.yes, d.no) from DictionaryEntity d")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<DictionaryTranslationView> streamAllTranslations();
+
+    @Override
+    @Query("select new uk.gov.hmcts.reform.translate.data.DictionaryTranslationView("
+        + "d.englishPhrase, d.translationPhrase, d.yesOrNo, d.yes, d.no) from DictionaryEntity d "
+        + "where d.translationUpload.version > :translationVersion")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<DictionaryTranslationView> streamAllTranslationsSince(@Param("translationVersion") Long translationVersion);
+
+    // NB: phrases are looked up through the unique index on their digest, re-checking the phrase itself so a digest
+    // collision can never return the wrong row
+    @Override
+    default Optional<DictionaryEntity> findByEnglishPhrase(String englishPhrase) {
+        return findByEnglishPhraseDigestAndEnglishPhrase(DictionaryEntity.digestOf(englishPhrase), englishPhrase);
+    }
+
+    @Override
+    default List<DictionaryEntity> findAllByEnglishPhraseIn(Collection<String> englishPhrases) {
+        final List<byte[]> digests = englishPhrases.stream().map(DictionaryEntity::digestOf).toList();
+        return findAllByEnglishPhraseDigestInAndEnglishPhraseIn(digests, englishPhrases);
+    }
+
+    Optional<DictionaryEntity> findByEnglishPhraseDigestAndEnglishPhrase(byte[] englishPhraseDigest,
+                                                                         String englishPhrase);
+
+    @EntityGraph(attributePaths = "translationUpload")
+    List<DictionaryEntity> findAllByEnglishPhraseDigestInAndEnglishPhraseIn(Collection<byte[]> englishPhraseDigests,
+                                                                            Collection<String> englishPhrases);
+
+    @Override
+    default long deleteByEnglishPhraseStartingWith(String startingWith) {
+        return deleteChunkByEnglishPhraseStartingWith(startingWith, Integer.MAX_VALUE);
+    }
+
+    // NB: the rows are found through the index on the start of each phrase
+    @Override
+    default int deleteChunkByEnglishPhraseStartingWith(String startingWith, int chunkSize) {
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of(startingWith);
+        return deleteChunkByEnglishPhrasePrefixRange(range.lowerBound(), range.upperBound(), startingWith, chunkSize);
+    }
+
+    // NB: there is no upper bound when the prefix ends in the highest code point; the casts give the (possibly null)
+    // bound a type
+    @Modifying
+    @Query(value = "DELETE FROM dictionary WHERE id IN (SELECT id FROM dictionary "
+        + "WHERE left(english_phrase, 64) COLLATE \"C\" >= :lowerBound "
+        + "AND (CAST(:upperBound AS text) IS NULL "
+        + "OR left(english_phrase, 64) COLLATE \"C\" < CAST(:upperBound AS text)) "
+        + "AND starts_with(english_phrase, :startingWith) LIMIT :chunkSize)", nativeQuery = true)
+    int deleteChunkByEnglishPhrasePrefixRange(@Param("lowerBound") String lowerBound,
+                                              @Param("upperBound") String upperBound,
+                                              @Param("startingWith") String startingWith,
+                                              @Param("chunkSize") int chunkSize);
+
+    @Override
+    @Modifying
+    @Query(value = "INSERT INTO dictionary (english_phrase) SELECT unnest(ARRAY[:englishPhrases]) "
+        + "ON CONFLICT (english_phrase_digest) DO NOTHING", nativeQuery = true)
+    int insertEnglishPhrasesIfAbsent(@Param("englishPhrases") Collection<String> englishPhrases);
+
+    @Override
+    default int addPhraseUsage(Collection<PhraseUsageView> phraseUsages) {
+        return updatePhraseUsage(phraseUsages.stream().map(PhraseUsageView::englishPhrase).toList(),
+                                 phraseUsages.stream().map(PhraseUsageView::hitCount).toList(),
+                                 phraseUsages.stream().map(PhraseUsageView::lastRequestedAt).toList());
+    }
+
+    // NB: one statement for the whole batch, each phrase found through the unique index on its digest
+    @Modifying
+    @Query(value = "UPDATE dictionary d SET hit_count = d.hit_count + u.hit_count, "
+        + "last_requested_at = greatest(d.last_requested_at, u.last_requested_at) "
+        + "FROM unnest(ARRAY[:englishPhrases], ARRAY[:hitCounts], ARRAY[:lastRequestedAts]) "
+        + "AS u(english_phrase, hit_count, last_requested_at) "
+        + "WHERE d.english_phrase_digest = sha256(convert_to(u.english_phrase, 'UTF8')) "
+        + "AND d.english_phrase = u.english_phrase", nativeQuery = true)
+    int updatePhraseUsage(@Param("englishPhrases") List<String> englishPhrases,
+                          @Param("hitCounts") List<Long> hitCounts,
+                          @Param("lastRequestedAts") List<LocalDateTime> lastRequestedAts);
+
 }
@@ -0,0 +1,101 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.stereotype.Repository;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.config.DataSourceConfiguration;
+import uk.gov.hmcts.reform.translate.errorhandling.ReplicaLagException;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.Instant;
+import javax.sql.DataSource;
+
+/**
+ * Makes the translation version high-water mark safe to sync from.
+ *
+ * <p>Upload versions are allocated from a sequence when an upload starts, but uploads can commit in any order. Each
+ * upload therefore holds a shared advisory lock from allocating its version until it commits, and the high-water mark
+ * is only read while holding the same lock exclusively: every version up to the mark is then committed, and every
+ * later upload is allocated a higher version.
+ *
+ * <p>The mark is always read from the primary. When the caller's transaction is served by a replica, the replica is
+ * then given time to replay up to the primary's position, so every version up to the mark is visible to the caller.
+ */
+@Repository
+public class TranslationVersionBarrier {
+
+    protected static final long TRANSLATION_UPLOAD_LOCK_KEY = 0x7473_7570_6c6f_6164L;
+
+    private static final long REPLAY_POLL_INTERVAL_MILLIS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final Duration maxReplayWait;
+
+    @Autowired
+    public TranslationVersionBarrier(JdbcTemplate jdbcTemplate,
+                                     @Qualifier(DataSourceConfiguration.PRIMARY_DATA_SOURCE)
+                                     DataSource primaryDataSource,
+                                     ApplicationParams applicationParams) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.maxReplayWait = Duration.ofMillis(applicationParams.getReplicaMaxReplayWaitMillis());
+    }
+
+    /**
+     * Must be called, inside the upload's transaction, before its translation version is allocated.
+     */
+    public void enterUpload() {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock_shared(?)", TRANSLATION_UPLOAD_LOCK_KEY);
+    }
+
+    /**
+     * Waits for any uploads in progress to finish, then returns the highest committed translation version (or 0 if
+     * there are none).
+     *
+     * @throws ReplicaLagException if the caller's replica does not catch up with the primary in time
+     */
+    public long getCommittedHighWaterMark() {
+        final HighWaterMark highWaterMark = primaryJdbcTemplate.execute(this::readHighWaterMark);
+        awaitReplay(highWaterMark.walPosition());
+        return highWaterMark.version();
+    }
+
+    // NB: all on one connection, so that the session-level lock is taken and released on the same connection
+    private HighWaterMark readHighWaterMark(Connection connection) {
+        final JdbcTemplate sameConnection = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        sameConnection.queryForList("SELECT pg_advisory_lock(?)", TRANSLATION_UPLOAD_LOCK_KEY);
+        try {
+            return sameConnection.queryForObject(
+                "SELECT coalesce(max(version), 0), pg_current_wal_lsn()::text FROM translation_upload",
+                (resultSet, rowNum) -> new HighWaterMark(resultSet.getLong(1), resultSet.getString(2))
+            );
+        } finally {
+            sameConnection.queryForList("SELECT pg_advisory_unlock(?)", TRANSLATION_UPLOAD_LOCK_KEY);
+        }
+    }
+
+    private void awaitReplay(final String walPosition) {
+        // NB: a server that is not a standby has no replay position, and is always up to date
+        final String replayedSql = "SELECT coalesce(pg_last_wal_replay_lsn() >= CAST(? AS pg_lsn), true)";
+        final Instant deadline = Instant.now().plus(maxReplayWait);
+        while (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(replayedSql, Boolean.class, walPosition))) {
+            if (Instant.now().isAfter(deadline)) {
+                throw new ReplicaLagException();
+            }
+            try {
+                Thread.sleep(REPLAY_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ReplicaLagException();
+            }
+        }
+    }
+
+    private record HighWaterMark(long version, String walPosition) {
+    }
+}
@@ -0,0 +1,81 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.BEARER;
+
+/**
+ * Remembers which service each S2S token has been validated for, so that the {@code ServiceAuthFilter} only calls the
+ * S2S provider the first time it sees a token rather than on every request.
+ *
+ * <p>Validations are cached by a digest of the token until the token expires (or for the configured time to live, if
+ * sooner). Tokens that fail validation are not cached. Hits, misses and evictions are published as the
+ * {@code cache.*} metrics tagged {@code cache=s2sTokenCache}.
+ */
+public class CachingAuthTokenValidator implements AuthTokenValidator {
+
+    public static final String CACHE_NAME = "s2sTokenCache";
+
+    private final AuthTokenValidator delegate;
+    private final Duration timeToLive;
+    private final Cache<String, ValidatedToken> cache;
+
+    public CachingAuthTokenValidator(AuthTokenValidator delegate,
+                                     long maximumSize,
+                                     Duration timeToLive,
+                                     MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpires<>(ValidatedToken::expiresAt))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public void validate(String token) {
+        getServiceName(token);
+    }
+
+    @Override
+    public void validate(String token, List<String> roles) {
+        // NB: S2S roles are not used by this service, so are always checked with the provider
+        delegate.validate(token, roles);
+    }
+
+    @Override
+    public String getServiceName(String token) {
+        return cache.get(TokenDigest.of(token), key -> validateWithProvider(token)).serviceName();
+    }
+
+    private ValidatedToken validateWithProvider(String token) {
+        final String serviceName = delegate.getServiceName(token);
+        final Instant latest = Instant.now().plus(timeToLive);
+        return new ValidatedToken(serviceName, expiryOf(token).filter(latest::isAfter).orElse(latest));
+    }
+
+    private static Optional<Instant> expiryOf(String token) {
+        try {
+            return Optional.ofNullable(
+                ServiceToken.decode(token.startsWith(BEARER) ? token.substring(BEARER.length()) : token).expiresAt()
+            );
+        } catch (JWTDecodeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private record ValidatedToken(String serviceName, Instant expiresAt) {
+    }
+}
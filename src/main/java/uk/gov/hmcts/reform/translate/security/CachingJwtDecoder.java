@@ -0,0 +1,57 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Remembers the user tokens that have already been decoded and verified, so that a token's signature is checked once
+ * rather than on every request it is sent with.
+ *
+ * <p>Verified tokens are cached by a digest of the token until they expire (or for the configured time to live, if
+ * sooner). Tokens that fail verification are not cached. Hits, misses and evictions are published as the
+ * {@code cache.*} metrics tagged {@code cache=jwtCache}.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    public static final String CACHE_NAME = "jwtCache";
+
+    private final JwtDecoder delegate;
+    private final Duration timeToLive;
+    private final Cache<String, VerifiedJwt> cache;
+
+    public CachingJwtDecoder(JwtDecoder delegate,
+                             long maximumSize,
+                             Duration timeToLive,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeToLive = timeToLive;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new UntilTokenExpires<>(VerifiedJwt::expiresAt))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) {
+        return cache.get(TokenDigest.of(token), key -> verify(token)).jwt();
+    }
+
+    private VerifiedJwt verify(String token) {
+        final Jwt jwt = delegate.decode(token);
+        final Instant latest = Instant.now().plus(timeToLive);
+        return new VerifiedJwt(jwt, Optional.ofNullable(jwt.getExpiresAt()).filter(latest::isAfter).orElse(latest));
+    }
+
+    private record VerifiedJwt(Jwt jwt, Instant expiresAt) {
+    }
+}
@@ -9,6 +9,8 @@ import static java.util.Collections.emptyList;
 
 public record CustomPermitAllAuthenticationTokenBuilder(HttpServletRequest request) {
 
+    private static final WebAuthenticationDetailsSource DETAILS_SOURCE = new WebAuthenticationDetailsSource();
+
     public AbstractAuthenticationToken build() {
         AbstractAuthenticationToken authenticationToken = new AbstractAuthenticationToken(emptyList()) {
             @Override
@@ -22,7 +24,7 @@ public record CustomPermitAllAuthenticationTokenBuilder(HttpServletRequest reque
             }
         };
         authenticationToken.setAuthenticated(true);
-        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        authenticationToken.setDetails(DETAILS_SOURCE.buildDetails(request));
 
         return authenticationToken;
     }
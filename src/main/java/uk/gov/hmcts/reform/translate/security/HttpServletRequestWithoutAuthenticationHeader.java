@@ -4,12 +4,10 @@ import org.springframework.http.HttpHeaders;
 
 import java.util.Collections;
 import java.util.Enumeration;
-import java.util.List;
+import java.util.NoSuchElementException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletRequestWrapper;
 
-import static java.util.Collections.emptyList;
-
 public class HttpServletRequestWithoutAuthenticationHeader extends HttpServletRequestWrapper {
     /**
      * Constructs a request object wrapping the given request.
@@ -30,22 +28,51 @@ public class HttpServletRequestWithoutAuthenticationHeader extends HttpServletRe
 
     @Override
     public Enumeration<String> getHeaderNames() {
-        final List<String> names = Collections.list(super.getHeaderNames());
-        final List<String> filteredNames = names.stream()
-            .filter(this::isNotAuthorizationHeader)
-            .toList();
-
-        return Collections.enumeration(filteredNames);
+        return new HeaderNamesWithoutAuthorization(super.getHeaderNames());
     }
 
     @Override
     public Enumeration<String> getHeaders(String name) {
         return isNotAuthorizationHeader(name)
             ? super.getHeaders(name)
-            : Collections.enumeration(emptyList());
+            : Collections.emptyEnumeration();
     }
 
-    private boolean isNotAuthorizationHeader(final String name) {
+    private static boolean isNotAuthorizationHeader(final String name) {
         return !name.equalsIgnoreCase(HttpHeaders.AUTHORIZATION);
     }
+
+    /**
+     * Skips the authorization header while the wrapped header names are enumerated, rather than copying them.
+     */
+    private static final class HeaderNamesWithoutAuthorization implements Enumeration<String> {
+
+        private final Enumeration<String> headerNames;
+        private String next;
+
+        private HeaderNamesWithoutAuthorization(final Enumeration<String> headerNames) {
+            this.headerNames = headerNames;
+        }
+
+        @Override
+        public boolean hasMoreElements() {
+            while (next == null && headerNames.hasMoreElements()) {
+                final String name = headerNames.nextElement();
+                if (isNotAuthorizationHeader(name)) {
+                    next = name;
+                }
+            }
+            return next != null;
+        }
+
+        @Override
+        public String nextElement() {
+            if (!hasMoreElements()) {
+                throw new NoSuchElementException();
+            }
+            final String name = next;
+            next = null;
+            return name;
+        }
+    }
 }
@@ -0,0 +1,22 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import org.springframework.security.core.AuthenticationException;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
+
+import java.io.Serial;
+
+/**
+ * Authentication failed because IDAM could not be asked for the user's info, rather than because of the user's token.
+ *
+ * <p>NB: not an {@code AuthenticationServiceException}, which Spring Security rethrows rather than passing to the
+ * {@link IdamAwareAuthenticationEntryPoint}.
+ */
+public class IdamUnavailableAuthenticationException extends AuthenticationException {
+
+    @Serial
+    private static final long serialVersionUID = -2841935472905618307L;
+
+    public IdamUnavailableAuthenticationException(IdamUnavailableException cause) {
+        super(IdamUnavailableException.ERROR_MESSAGE, cause);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
 import uk.gov.hmcts.reform.translate.security.idam.IdamRepository;
 
 import java.util.Collection;
@@ -41,12 +42,18 @@ public class JwtGrantedAuthoritiesConverter implements Converter<Jwt, Collection
                 log.info("JwtGrantedAuthoritiesConverter retrieved user info from idamRepository."
                              + " User Id={}. Roles={}.",
                          userInfo.getUid(), userInfo.getRoles());
+            } catch (IdamUnavailableException ex) {
+                // NB: so that the request fails with a 503 rather than a 401, see IdamAwareAuthenticationEntryPoint
+                log.error("IDAM unavailable", ex);
+                throw new IdamUnavailableAuthenticationException(ex);
             } catch (Exception ex) {
                 // NB: catch, log and then throw a recognised spring authentication error as exception during
                 // HttpSecurity filters may fall outside of the remit of the RestExceptionHandler
                 log.error("IDAM error", ex);
                 throw new AuthenticationServiceException("IDAM error", ex);
             }
+            // NB: so that role checks later in the request need not look the user up again
+            SecurityUtils.setRequestUserInfo(userInfo);
 
             return extractAuthorityFromClaims(userInfo.getRoles());
         }
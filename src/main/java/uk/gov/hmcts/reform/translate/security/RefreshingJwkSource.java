@@ -0,0 +1,139 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Source of IDAM's signing keys that never blocks application startup on IDAM.
+ *
+ * <p>The key set is fetched from the configured JWK set URI in the background, and refreshed periodically after that.
+ * A token signed with a key that is not in the cached key set (e.g. after IDAM has rotated its keys) triggers an
+ * immediate fetch, no more often than the configured minimum interval. If a refresh fails, the cached key set is kept.
+ *
+ * <p>When a key set snapshot path is configured, the snapshot is loaded on construction so that tokens can be verified
+ * before the first fetch has completed.
+ */
+@Component
+@Slf4j
+public class RefreshingJwkSource implements JWKSource<SecurityContext> {
+
+    private static final int SIZE_LIMIT_BYTES = 50 * 1024;
+
+    private final URL jwkSetUrl;
+    private final ResourceRetriever resourceRetriever;
+    private final Duration minRefetchInterval;
+    private final Object fetchLock = new Object();
+
+    private volatile JWKSet jwkSet;
+    private Instant lastFetchAttemptAt = Instant.EPOCH;
+
+    @Autowired
+    public RefreshingJwkSource(ApplicationParams applicationParams) {
+        this(toUrl(applicationParams.getJwkSetUri()),
+             new DefaultResourceRetriever(applicationParams.getJwkSetConnectTimeoutMillis(),
+                                          applicationParams.getJwkSetReadTimeoutMillis(),
+                                          SIZE_LIMIT_BYTES),
+             Duration.ofSeconds(applicationParams.getJwkSetMinRefetchIntervalSeconds()),
+             applicationParams.getJwkSetSnapshotPath());
+    }
+
+    RefreshingJwkSource(URL jwkSetUrl,
+                        ResourceRetriever resourceRetriever,
+                        Duration minRefetchInterval,
+                        String snapshotPath) {
+        this.jwkSetUrl = jwkSetUrl;
+        this.resourceRetriever = resourceRetriever;
+        this.minRefetchInterval = minRefetchInterval;
+        if (StringUtils.hasText(snapshotPath)) {
+            loadSnapshot(snapshotPath);
+        }
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+        final JWKSet cached = jwkSet;
+        if (cached != null) {
+            final List<JWK> matches = jwkSelector.select(cached);
+            if (!matches.isEmpty()) {
+                return matches;
+            }
+        }
+        return jwkSelector.select(fetchIfDue(cached));
+    }
+
+    @Scheduled(fixedDelayString = "${ts.jwks.refresh-interval:PT5M}")
+    public void refresh() {
+        try {
+            synchronized (fetchLock) {
+                fetch();
+            }
+        } catch (KeySourceException e) {
+            log.warn("Failed to refresh the JWK set, the cached key set will be kept", e);
+        }
+    }
+
+    private JWKSet fetchIfDue(JWKSet seen) throws KeySourceException {
+        synchronized (fetchLock) {
+            if (jwkSet != seen) {
+                // NB: fetched by another thread while this one was waiting
+                return jwkSet;
+            }
+            if (Instant.now().isBefore(lastFetchAttemptAt.plus(minRefetchInterval))) {
+                return seen == null ? new JWKSet() : seen;
+            }
+            return fetch();
+        }
+    }
+
+    private JWKSet fetch() throws KeySourceException {
+        lastFetchAttemptAt = Instant.now();
+        try {
+            final JWKSet fetched = JWKSet.parse(resourceRetriever.retrieveResource(jwkSetUrl).getContent());
+            jwkSet = fetched;
+            log.debug("Fetched {} keys from {}", fetched.getKeys().size(), jwkSetUrl);
+            return fetched;
+        } catch (IOException | ParseException e) {
+            throw new KeySourceException("Failed to fetch the JWK set from " + jwkSetUrl, e);
+        }
+    }
+
+    private void loadSnapshot(String snapshotPath) {
+        try {
+            jwkSet = JWKSet.load(new File(snapshotPath));
+            log.info("Loaded {} keys from the JWK set snapshot {}", jwkSet.getKeys().size(), snapshotPath);
+        } catch (IOException | ParseException e) {
+            log.warn("Failed to load the JWK set snapshot {}, keys will be fetched from {}",
+                     snapshotPath, jwkSetUrl, e);
+        }
+    }
+
+    private static URL toUrl(String jwkSetUri) {
+        try {
+            return URI.create(jwkSetUri).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid JWK set URI: " + jwkSetUri, e);
+        }
+    }
+}
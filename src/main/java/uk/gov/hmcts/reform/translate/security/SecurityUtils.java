@@ -1,6 +1,5 @@
 package uk.gov.hmcts.reform.translate.security;
 
-import com.auth0.jwt.JWT;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
@@ -8,6 +7,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toSet;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
 
 @Service
 @Slf4j
@@ -30,6 +31,8 @@ public class SecurityUtils {
     public static final String MANAGE_TRANSLATIONS_ROLE = "manage-translations";
     public static final String LOAD_TRANSLATIONS_ROLE = "load-translations";
     public static final String BEARER = "Bearer ";
+    public static final String USER_INFO_ATTRIBUTE = SecurityUtils.class.getName() + ".userInfo";
+    public static final String SERVICE_TOKEN_ATTRIBUTE = SecurityUtils.class.getName() + ".serviceToken";
 
     private final AuthTokenGenerator authTokenGenerator;
     private final IdamRepository idamRepository;
@@ -56,22 +59,50 @@ public class SecurityUtils {
         return headers;
     }
 
+    /**
+     * Gets the user's info from IDAM, looking it up at most once per request.
+     */
     public UserInfo getUserInfo() {
         return Optional.ofNullable(getUserToken())
-            .map(userToken -> {
-                final UserInfo userInfo = idamRepository.getUserInfo(userToken);
-                if (userInfo != null) {
-                    log.info(
-                        "SecurityUtils retrieved user info from idamRepository. User Id={}. Roles={}.",
-                        userInfo.getUid(),
-                        userInfo.getRoles()
-                    );
-                }
-                return userInfo;
-            })
+            .map(userToken -> getRequestUserInfo().orElseGet(() -> retrieveUserInfo(userToken)))
             .orElse(null);
     }
 
+    private UserInfo retrieveUserInfo(String userToken) {
+        final UserInfo userInfo = idamRepository.getUserInfo(userToken);
+        if (userInfo != null) {
+            log.info(
+                "SecurityUtils retrieved user info from idamRepository. User Id={}. Roles={}.",
+                userInfo.getUid(),
+                userInfo.getRoles()
+            );
+            setRequestUserInfo(userInfo);
+        }
+        return userInfo;
+    }
+
+    /**
+     * Keeps the user's info for the rest of the current request, if there is one.
+     */
+    public static void setRequestUserInfo(UserInfo userInfo) {
+        setRequestAttribute(USER_INFO_ATTRIBUTE, userInfo);
+    }
+
+    private static Optional<UserInfo> getRequestUserInfo() {
+        return getRequestAttribute(USER_INFO_ATTRIBUTE, UserInfo.class);
+    }
+
+    private static void setRequestAttribute(String name, Object value) {
+        Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+            .ifPresent(attributes -> attributes.setAttribute(name, value, SCOPE_REQUEST));
+    }
+
+    private static <T> Optional<T> getRequestAttribute(String name, Class<T> type) {
+        return Optional.ofNullable(RequestContextHolder.getRequestAttributes())
+            .map(attributes -> attributes.getAttribute(name, SCOPE_REQUEST))
+            .map(type::cast);
+    }
+
     public String getUserId() {
         return getUserInfo().getUid();
     }
@@ -109,9 +140,22 @@ public class SecurityUtils {
     }
 
     public String getServiceNameFromS2SToken(String serviceAuthenticationToken) {
-        // NB: this grabs the service name straight from the token under the assumption
-        // that the S2S token has already been verified elsewhere
-        return JWT.decode(removeBearerFromToken(serviceAuthenticationToken)).getSubject();
+        return getServiceToken(serviceAuthenticationToken).serviceName();
+    }
+
+    /**
+     * Gets the calling service's S2S token, decoding it at most once per request.
+     */
+    public ServiceToken getServiceToken(String serviceAuthenticationToken) {
+        final String token = removeBearerFromToken(serviceAuthenticationToken);
+        return getRequestAttribute(SERVICE_TOKEN_ATTRIBUTE, DecodedServiceToken.class)
+            .filter(decoded -> decoded.token().equals(token))
+            .map(DecodedServiceToken::serviceToken)
+            .orElseGet(() -> {
+                final ServiceToken serviceToken = ServiceToken.decode(token);
+                setRequestAttribute(SERVICE_TOKEN_ATTRIBUTE, new DecodedServiceToken(token, serviceToken));
+                return serviceToken;
+            });
     }
 
     private String removeBearerFromToken(String token) {
@@ -119,7 +163,11 @@ public class SecurityUtils {
     }
 
     public boolean isBypassAuthCheck(String clientServiceName) {
-        return applicationParams.getPutDictionaryS2sServicesBypassRoleAuthCheck().contains(clientServiceName);
+        return applicationParams.getPutDictionaryBypassRoleAuthCheckServices().contains(clientServiceName);
+    }
+
+    // NB: kept with the token it was decoded from, so that a different token is never given its claims
+    record DecodedServiceToken(String token, ServiceToken serviceToken) {
     }
 }
 
@@ -0,0 +1,19 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.time.Instant;
+
+/**
+ * The claims of a calling service's S2S token that are used once the token has been verified.
+ */
+public record ServiceToken(String serviceName, Instant expiresAt) {
+
+    static ServiceToken decode(String token) {
+        // NB: this reads the claims straight from the token under the assumption
+        // that the S2S token has already been verified elsewhere
+        final DecodedJWT jwt = JWT.decode(token);
+        return new ServiceToken(jwt.getSubject(), jwt.getExpiresAtAsInstant());
+    }
+}
@@ -0,0 +1,29 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Digests tokens for use as cache keys, so that caches need not hold the tokens themselves.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * Calculates the hex-encoded SHA-256 digest of a token.
+     */
+    public static String of(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (NoSuchAlgorithmException e) {
+            // NB: every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Expires each cached value at the time it gives, e.g. when the token it was looked up for expires, so that caches
+ * keyed by {@link TokenDigest} never serve a value for longer than its token is valid. Reading a value does not extend
+ * its life.
+ */
+public class UntilTokenExpires<V> implements Expiry<String, V> {
+
+    private final Function<V, Instant> expiresAt;
+
+    public UntilTokenExpires(Function<V, Instant> expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    @Override
+    public long expireAfterCreate(String key, V value, long currentTime) {
+        return nanosUntilExpiry(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, V value, long currentTime, long currentDuration) {
+        return nanosUntilExpiry(value);
+    }
+
+    @Override
+    public long expireAfterRead(String key, V value, long currentTime, long currentDuration) {
+        return currentDuration;
+    }
+
+    private long nanosUntilExpiry(V value) {
+        return Math.max(0, Duration.between(Instant.now(), expiresAt.apply(value)).toNanos());
+    }
+}
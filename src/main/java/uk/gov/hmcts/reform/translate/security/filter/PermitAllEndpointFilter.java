@@ -6,37 +6,62 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
-
-import jakarta.servlet.FilterChain;
-import jakarta.servlet.ServletException;
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpServletResponse;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
 import uk.gov.hmcts.reform.translate.controllers.ControllerConstants;
 import uk.gov.hmcts.reform.translate.security.CustomPermitAllAuthenticationTokenBuilder;
 import uk.gov.hmcts.reform.translate.security.HttpServletRequestWithoutAuthenticationHeader;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
 
+/**
+ * Lets requests to the endpoints that do not need a user through without user authentication.
+ *
+ * <ul>
+ *     <li>{@code POST /translation/cy} is always permitted.</li>
+ *     <li>{@code PUT /dictionary} is permitted for the services configured to bypass the role check.</li>
+ * </ul>
+ *
+ * <p>The routes are looked up by HTTP method, so other requests are passed on after a single map lookup. The
+ * {@code PUT /dictionary} route is left out altogether when no service is configured to bypass the role check.
+ */
 @Slf4j
 @Component
-public class PutDictionaryEndpointFilter extends OncePerRequestFilter {
+public class PermitAllEndpointFilter extends OncePerRequestFilter {
 
     private final SecurityUtils securityUtils;
+    private final Map<String, Route> routes;
 
     @Autowired
-    public PutDictionaryEndpointFilter(final SecurityUtils securityUtils) {
+    public PermitAllEndpointFilter(final SecurityUtils securityUtils,
+                                   final ApplicationParams applicationParams) {
         this.securityUtils = securityUtils;
+        final Map<String, Route> routesByMethod = new HashMap<>();
+        routesByMethod.put(HttpMethod.POST.name(), new Route(ControllerConstants.TRANSLATIONS_URL, false));
+        if (applicationParams.getPutDictionaryBypassRoleAuthCheckServices().stream().anyMatch(StringUtils::hasText)) {
+            routesByMethod.put(HttpMethod.PUT.name(), new Route(ControllerConstants.DICTIONARY_URL, true));
+        }
+        this.routes = Map.copyOf(routesByMethod);
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        if (isPutDictionaryEndpoint(request) && isPermittedService(request)) {
+        // NB: the method is matched case-insensitively, like the path, so e.g. a lowercase "post" is still let through
+        final Route route = routes.get(request.getMethod().toUpperCase(Locale.ROOT));
+        if (route != null && route.matches(request) && (!route.bypassServicesOnly() || isPermittedService(request))) {
             final AbstractAuthenticationToken authenticationToken =
                 new CustomPermitAllAuthenticationTokenBuilder(request)
                     .build();
@@ -48,15 +73,16 @@ public class PutDictionaryEndpointFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean isPutDictionaryEndpoint(final HttpServletRequest request) {
-        return HttpMethod.PUT.name().equalsIgnoreCase(request.getMethod())
-            && ControllerConstants.DICTIONARY_URL.equalsIgnoreCase(request.getServletPath());
-    }
-
     private boolean isPermittedService(final HttpServletRequest request) {
         final String serviceName = securityUtils.getServiceNameFromS2SToken(request.getHeader(SERVICE_AUTHORIZATION));
 
         return securityUtils.isBypassAuthCheck(serviceName);
     }
 
+    private record Route(String servletPath, boolean bypassServicesOnly) {
+
+        boolean matches(final HttpServletRequest request) {
+            return servletPath.equalsIgnoreCase(request.getServletPath());
+        }
+    }
 }
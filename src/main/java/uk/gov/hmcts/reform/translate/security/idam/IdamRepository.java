@@ -1,30 +1,94 @@
 package uk.gov.hmcts.reform.translate.security.idam;
 
+import feign.FeignException;
+import feign.RetryableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 import uk.gov.hmcts.reform.idam.client.IdamClient;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
+import uk.gov.hmcts.reform.translate.security.TokenDigest;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @Component
 @Slf4j
 public class IdamRepository {
 
+    public static final String IDAM_CIRCUIT_BREAKER = "idam";
+
     private final IdamClient idamClient;
+    private final CircuitBreaker circuitBreaker;
+    private final UserInfoCache userInfoCache;
+    // NB: lookups currently in progress, keyed by token digest, so that concurrent lookups for the same token share
+    // one call to IDAM
+    private final ConcurrentMap<String, CompletableFuture<UserInfo>> inFlightLookups = new ConcurrentHashMap<>();
 
     @Autowired
-    public IdamRepository(IdamClient idamClient) {
+    public IdamRepository(IdamClient idamClient,
+                          UserInfoCache userInfoCache,
+                          CircuitBreakerRegistry circuitBreakerRegistry) {
         this.idamClient = idamClient;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(IDAM_CIRCUIT_BREAKER);
+        this.userInfoCache = userInfoCache;
     }
 
-    @Cacheable("userInfoCache")
     public UserInfo getUserInfo(String jwtToken) {
-        UserInfo userInfo = idamClient.getUserInfo("Bearer " + jwtToken);
+        return userInfoCache.get(jwtToken, this::retrieveUserInfo);
+    }
+
+    private UserInfo retrieveUserInfo(String jwtToken) {
+        final CompletableFuture<UserInfo> lookup = new CompletableFuture<>();
+        final String key = TokenDigest.of(jwtToken);
+        final CompletableFuture<UserInfo> inFlightLookup = inFlightLookups.putIfAbsent(key, lookup);
+        if (inFlightLookup != null) {
+            return join(inFlightLookup);
+        }
+        try {
+            lookup.complete(queryUserInfo(jwtToken));
+        } catch (RuntimeException | Error e) {
+            // NB: complete the lookup whatever happens, or its waiters would wait forever
+            lookup.completeExceptionally(e);
+        } finally {
+            inFlightLookups.remove(key, lookup);
+        }
+        return join(lookup);
+    }
+
+    private UserInfo queryUserInfo(String jwtToken) {
+        final UserInfo userInfo;
+        try {
+            userInfo = circuitBreaker.executeSupplier(() -> idamClient.getUserInfo("Bearer " + jwtToken));
+        } catch (CallNotPermittedException | RetryableException | FeignException.FeignServerException e) {
+            // NB: i.e. the circuit is open, or IDAM did not respond in time or failed: but not an IDAM client error,
+            // such as for an invalid token
+            throw new IdamUnavailableException(e);
+        }
         if (userInfo != null) {
             log.info("Queried user info from IDAM API. User Id={}. Roles={}.", userInfo.getUid(), userInfo.getRoles());
         }
         return userInfo;
     }
-}
 
+    private static UserInfo join(CompletableFuture<UserInfo> lookup) {
+        try {
+            return lookup.join();
+        } catch (CompletionException e) {
+            // NB: every caller sees the exception the lookup itself failed with
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package uk.gov.hmcts.reform.translate.security.idam;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
+import uk.gov.hmcts.reform.translate.security.TokenDigest;
+import uk.gov.hmcts.reform.translate.security.UntilTokenExpires;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of IDAM user info, keyed by a SHA-256 digest of the user's token rather than the token itself.
+ *
+ * <p>Each entry expires when its token does (or after the configured time to live, if sooner), and an entry older than
+ * the configured refresh period is reloaded in the background, while still being served, so that role changes are
+ * picked up without callers waiting on IDAM.
+ *
+ * <p>Once past its time to live, an entry is kept for a further grace period as the user's last known good info: it is
+ * only served if IDAM is unavailable, and never beyond its token's expiry.
+ *
+ * <p>Hits, misses and evictions are published as the {@code cache.*} metrics tagged {@code cache=userInfoCache}, and
+ * each last known good info served counts towards {@code ts.idam.user-info.last-known-good}.
+ */
+@Component
+@Slf4j
+public class UserInfoCache {
+
+    public static final String CACHE_NAME = "userInfoCache";
+    public static final String LAST_KNOWN_GOOD_METRIC = "ts.idam.user-info.last-known-good";
+
+    private final Cache<String, CachedUserInfo> cache;
+    private final Duration timeToLive;
+    private final Duration gracePeriod;
+    private final Duration refreshAfter;
+    private final Counter lastKnownGoodCounter;
+    private final Executor refreshExecutor;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public UserInfoCache(ApplicationParams applicationParams,
+                         MeterRegistry meterRegistry,
+                         @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                         Executor refreshExecutor) {
+        this.timeToLive = Duration.ofSeconds(applicationParams.getUserInfoCacheTimeToLiveSeconds());
+        this.gracePeriod = Duration.ofSeconds(applicationParams.getUserInfoCacheGracePeriodSeconds());
+        this.refreshAfter = Duration.ofSeconds(applicationParams.getUserInfoCacheRefreshAfterSeconds());
+        this.refreshExecutor = refreshExecutor;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(applicationParams.getUserInfoCacheMaximumSize())
+            .expireAfter(new UntilTokenExpires<>(CachedUserInfo::expiresAt))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.lastKnownGoodCounter = Counter.builder(LAST_KNOWN_GOOD_METRIC)
+            .description("User info served from the last known good info while IDAM is unavailable")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Gets the user info for a token, using the loader when it is not already cached.
+     *
+     * <p>The loader is called outside of the cache's own locking, so a slow lookup never holds up lookups for other
+     * tokens: concurrent misses for the same token are left to the loader to coalesce.
+     */
+    public UserInfo get(String jwtToken, Function<String, UserInfo> loader) {
+        final String key = TokenDigest.of(jwtToken);
+        final CachedUserInfo cached = cache.getIfPresent(key);
+        if (cached == null || cached.isStale()) {
+            final CachedUserInfo loaded;
+            try {
+                loaded = load(jwtToken, loader);
+            } catch (IdamUnavailableException e) {
+                if (cached == null) {
+                    throw e;
+                }
+                log.warn("IDAM is unavailable, serving last known good user info. User Id={}.",
+                         cached.userInfo().getUid());
+                lastKnownGoodCounter.increment();
+                return cached.userInfo();
+            }
+            if (loaded == null) {
+                return null;
+            }
+            cache.put(key, loaded);
+            return loaded.userInfo();
+        }
+        if (cached.isDueForRefresh(refreshAfter)) {
+            refreshAhead(key, jwtToken, loader);
+        }
+        return cached.userInfo();
+    }
+
+    private CachedUserInfo load(String jwtToken, Function<String, UserInfo> loader) {
+        final UserInfo userInfo = loader.apply(jwtToken);
+        if (userInfo == null) {
+            return null;
+        }
+        final Instant now = Instant.now();
+        final Instant tokenExpiry = tokenExpiryOf(jwtToken).orElse(Instant.MAX);
+        return new CachedUserInfo(userInfo,
+                                  now,
+                                  earliest(now.plus(timeToLive), tokenExpiry),
+                                  earliest(now.plus(timeToLive).plus(gracePeriod), tokenExpiry));
+    }
+
+    private void refreshAhead(String key, String jwtToken, Function<String, UserInfo> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    // NB: replace rather than put, so that an entry evicted in the meantime stays evicted
+                    Optional.ofNullable(load(jwtToken, loader))
+                        .ifPresent(refreshed -> cache.asMap().replace(key, refreshed));
+                } catch (RuntimeException e) {
+                    log.warn("Failed to refresh cached user info, the cached value will be kept until it expires", e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.warn("Failed to schedule refresh of cached user info", e);
+        }
+    }
+
+    private static Optional<Instant> tokenExpiryOf(String jwtToken) {
+        try {
+            // NB: the token's signature has already been verified by the time its user info is looked up
+            return Optional.ofNullable(JWT.decode(jwtToken).getExpiresAtAsInstant());
+        } catch (JWTDecodeException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Instant earliest(Instant instant, Instant other) {
+        return instant.isBefore(other) ? instant : other;
+    }
+
+    private record CachedUserInfo(UserInfo userInfo, Instant loadedAt, Instant staleAt, Instant expiresAt) {
+
+        boolean isStale() {
+            return !Instant.now().isBefore(staleAt);
+        }
+
+        boolean isDueForRefresh(Duration refreshAfter) {
+            return !Instant.now().isBefore(loadedAt.plus(refreshAfter));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.ALL_PHRASES;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.CHANNEL;
+
+/**
+ * Keeps this node's {@link TranslationSnapshotCache} in step with dictionary changes made on other nodes by
+ * listening for the notifications raised by {@link DictionaryChangeNotifier}.
+ *
+ * <p>The listener holds its own connection, outside the connection pool, for as long as it runs. Notifications sent
+ * while that connection is down are lost, so the whole snapshot is reloaded each time it starts listening. The
+ * connection is checked whenever a poll times out, so one that has silently died is replaced.
+ */
+@Component
+@ConditionalOnProperty(value = "ts.dictionary-changes.listener.enabled", havingValue = "true")
+@Slf4j
+public class DictionaryChangeListener {
+
+    private static final TypeReference<Set<String>> ENGLISH_PHRASES = new TypeReference<>() {
+    };
+
+    private final DataSourceProperties dataSourceProperties;
+    private final TranslationSnapshotCache translationSnapshotCache;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private final ObjectMapper objectMapper;
+
+    private volatile boolean running = true;
+    private Thread listenerThread;
+
+    @Autowired
+    public DictionaryChangeListener(DataSourceProperties dataSourceProperties,
+                                    TranslationSnapshotCache translationSnapshotCache,
+                                    ApplicationParams applicationParams,
+                                    ObjectMapper objectMapper) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.translationSnapshotCache = translationSnapshotCache;
+        this.pollTimeoutMillis = applicationParams.getDictionaryChangesListenerPollTimeoutMillis();
+        this.reconnectDelayMillis = applicationParams.getDictionaryChangesListenerReconnectDelayMillis();
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listenerThread = new Thread(this::run, "dictionary-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    void run() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword()
+            )) {
+                listen(connection);
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Stopped listening for dictionary changes, will reconnect in {} ms",
+                             reconnectDelayMillis, e);
+                }
+            }
+            pause();
+        }
+    }
+
+    void listen(final Connection connection) throws SQLException {
+        // NB: so a check on a connection that has silently died fails rather than waits forever
+        connection.setNetworkTimeout(Runnable::run, pollTimeoutMillis);
+        execute(connection, "LISTEN " + CHANNEL);
+        log.info("Listening for dictionary changes on '{}'", CHANNEL);
+
+        // NB: picks up any change made before listening started, including since the snapshot was first loaded
+        translationSnapshotCache.reload();
+
+        final PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        while (running) {
+            final PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+            if (notifications == null || notifications.length == 0) {
+                execute(connection, "SELECT 1");
+            } else {
+                for (final PGNotification notification : notifications) {
+                    onNotification(notification.getParameter());
+                }
+            }
+        }
+    }
+
+    void onNotification(final String payload) {
+        if (ALL_PHRASES.equals(payload)) {
+            translationSnapshotCache.reload();
+            return;
+        }
+
+        try {
+            translationSnapshotCache.refresh(objectMapper.readValue(payload, ENGLISH_PHRASES));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring unrecognised dictionary change notification: {}", payload);
+        }
+    }
+
+    private static void execute(final Connection connection, final String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tells the other nodes about a dictionary change by raising a Postgres NOTIFY from inside the changing transaction,
+ * so it is only delivered if (and when) that transaction commits.
+ *
+ * <p>The payload is a JSON array of the English phrases that should be re-read, or {@link #ALL_PHRASES} when the
+ * change cannot be narrowed down or its phrases do not fit in a notification.
+ */
+@Component
+@Slf4j
+public class DictionaryChangeNotifier {
+
+    public static final String CHANNEL = "dictionary_changed";
+    public static final String ALL_PHRASES = "*";
+
+    // NB: Postgres rejects payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7999;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public DictionaryChangeNotifier(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onDictionaryChanged(final DictionaryChangedEvent event) {
+        sendNotification(event.isAllPhrases() ? ALL_PHRASES : toPayload(event));
+    }
+
+    private String toPayload(final DictionaryChangedEvent event) {
+        try {
+            final String payload = objectMapper.writeValueAsString(event.englishPhrases());
+            return payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES ? ALL_PHRASES : payload;
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to write dictionary change notification, notifying all phrases instead", e);
+            return ALL_PHRASES;
+        }
+    }
+
+    private void sendNotification(final String payload) {
+        log.debug("Notifying '{}' of dictionary change: {}", CHANNEL, payload);
+        jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+    }
+}
@@ -0,0 +1,24 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import java.util.Set;
+
+/**
+ * Published by a transaction that changes the dictionary, naming the English phrases it touched.
+ *
+ * <p>An event without phrases means the change cannot be narrowed down (e.g. a bulk delete) and everything should
+ * be treated as changed.
+ */
+public record DictionaryChangedEvent(Set<String> englishPhrases) {
+
+    public static DictionaryChangedEvent forPhrases(final Set<String> englishPhrases) {
+        return new DictionaryChangedEvent(Set.copyOf(englishPhrases));
+    }
+
+    public static DictionaryChangedEvent forAllPhrases() {
+        return new DictionaryChangedEvent(null);
+    }
+
+    public boolean isAllPhrases() {
+        return englishPhrases == null;
+    }
+}
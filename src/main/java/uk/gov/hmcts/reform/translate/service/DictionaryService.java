@@ -1,37 +1,63 @@
 package uk.gov.hmcts.reform.translate.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntryView;
+import uk.gov.hmcts.reform.translate.data.DictionarySimilarityMatchView;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
 import uk.gov.hmcts.reform.translate.data.TranslationUploadEntity;
 import uk.gov.hmcts.reform.translate.errorhandling.BadRequestException;
 import uk.gov.hmcts.reform.translate.errorhandling.EnglishPhraseUniqueConstraintException;
 import uk.gov.hmcts.reform.translate.errorhandling.RequestErrorException;
 import uk.gov.hmcts.reform.translate.errorhandling.RoleMissingException;
 import uk.gov.hmcts.reform.translate.helper.DictionaryMapper;
+import uk.gov.hmcts.reform.translate.helper.DictionaryUtils;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.DictionaryEntry;
+import uk.gov.hmcts.reform.translate.model.DictionaryPage;
+import uk.gov.hmcts.reform.translate.model.DictionarySearchResults;
+import uk.gov.hmcts.reform.translate.model.SearchMode;
 import uk.gov.hmcts.reform.translate.model.Translation;
 import uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.DictionaryEntryFilter;
+import uk.gov.hmcts.reform.translate.repository.DictionaryPageRepository;
 import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
 import uk.gov.hmcts.reform.translate.repository.TranslationUploadRepository;
+import uk.gov.hmcts.reform.translate.repository.TranslationVersionBarrier;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_CURSOR;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_PAGE_SIZE;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SCHEMA;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SEARCH_QUERY;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.WELSH_NOT_ALLOWED;
 import static uk.gov.hmcts.reform.translate.helper.DictionaryUtils.hasAnyTranslations;
 import static uk.gov.hmcts.reform.translate.helper.DictionaryUtils.hasTranslationPhrase;
@@ -45,29 +71,57 @@ import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSL
 public class DictionaryService {
 
     public static final String TEST_PHRASES_START_WITH = "TEST-";
+    public static final int MAX_PAGE_SIZE = 1000;
+    // NB: a trigram index cannot narrow the search for anything shorter
+    public static final int MIN_SEARCH_QUERY_LENGTH = 3;
+
+    private static final String TRANSLATIONS_FIELD = "translations";
+    private static final String VERSION_FIELD = "version";
 
     private final DictionaryRepository dictionaryRepository;
     private final DictionaryMapper dictionaryMapper;
     private final SecurityUtils securityUtils;
     private final TranslationUploadRepository translationUploadRepository;
+    private final UntranslatedPhraseRecorder untranslatedPhraseRecorder;
+    private final TranslationSnapshotCache translationSnapshotCache;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TranslationVersionBarrier translationVersionBarrier;
+    private final DictionaryPageRepository dictionaryPageRepository;
+    private final PhraseUsageRecorder phraseUsageRecorder;
 
     @Autowired
     public DictionaryService(final @Qualifier(DefaultDictionaryRepository.QUALIFIER)
                               DictionaryRepository dictionaryRepository,
                              DictionaryMapper dictionaryMapper,
                              SecurityUtils securityUtils,
-                             TranslationUploadRepository translationUploadRepository) {
+                             TranslationUploadRepository translationUploadRepository,
+                             UntranslatedPhraseRecorder untranslatedPhraseRecorder,
+                             TranslationSnapshotCache translationSnapshotCache,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             ObjectMapper objectMapper,
+                             TranslationVersionBarrier translationVersionBarrier,
+                             DictionaryPageRepository dictionaryPageRepository,
+                             PhraseUsageRecorder phraseUsageRecorder) {
 
         this.dictionaryRepository = dictionaryRepository;
         this.dictionaryMapper = dictionaryMapper;
         this.securityUtils = securityUtils;
         this.translationUploadRepository = translationUploadRepository;
+        this.untranslatedPhraseRecorder = untranslatedPhraseRecorder;
+        this.translationSnapshotCache = translationSnapshotCache;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.objectMapper = objectMapper;
+        this.translationVersionBarrier = translationVersionBarrier;
+        this.dictionaryPageRepository = dictionaryPageRepository;
+        this.phraseUsageRecorder = phraseUsageRecorder;
     }
 
     public void deleteTestPhrases() {
         // check manage-translations role before manipulating phrases that may contain translations.
         if (securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)) {
             long deleteCount = dictionaryRepository.deleteByEnglishPhraseStartingWith(TEST_PHRASES_START_WITH);
+            applicationEventPublisher.publishEvent(DictionaryChangedEvent.forAllPhrases());
             log.warn("User {} has deleted {} test phrases matching '{}'",
                      securityUtils.getUserId(), deleteCount, TEST_PHRASES_START_WITH);
         } else {
@@ -75,72 +129,161 @@ public class DictionaryService {
         }
     }
 
-    public Map<String, Translation> getDictionaryContents() {
+    /**
+     * Writes the dictionary to the given stream in the same JSON shape as {@link Dictionary}, one entry at a time as
+     * it is read from the database, so memory use does not grow with the size of the dictionary.
+     *
+     * @param sinceVersion when given, only the entries translated by uploads after this version are written
+     */
+    @Transactional(readOnly = true)
+    public void writeDictionaryContents(final OutputStream outputStream, final Long sinceVersion) throws IOException {
 
-        if (securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)) {
-            final var dictionaryEntities = dictionaryRepository.findAll();
-
-            final var spliterator = dictionaryEntities.spliterator();
-
-            if (dictionaryEntities.spliterator() != null) {
-                Stream<DictionaryEntity> stream = StreamSupport.stream(spliterator, false);
-
-                return stream.collect(Collectors.toMap(
-                    DictionaryEntity::getEnglishPhrase,
-                    dictionaryEntity -> {
-                        if (dictionaryEntity.isYesOrNo()) {
-                            return new Translation(
-                                StringUtils.defaultString(dictionaryEntity.getTranslationPhrase()),
-                                true,
-                                StringUtils.defaultString(dictionaryEntity.getYes()),
-                                StringUtils.defaultString(dictionaryEntity.getNo())
-                            );
-                        }
-                        return new Translation(StringUtils.defaultString(dictionaryEntity.getTranslationPhrase()));
-                    }
-                ));
+        if (!securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)) {
+            throw new RoleMissingException(MANAGE_TRANSLATIONS_ROLE);
+        }
+
+        // NB: read before the entries, so every entry up to this version is included
+        final long version = translationVersionBarrier.getCommittedHighWaterMark();
+
+        final ObjectWriter translationWriter = objectMapper.writerFor(Translation.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (Stream<DictionaryTranslationView> dictionaryTranslations = sinceVersion == null
+                ? dictionaryRepository.streamAllTranslations()
+                : dictionaryRepository.streamAllTranslationsSince(sinceVersion);
+             JsonGenerator generator = objectMapper.createGenerator(outputStream)
+                 .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+
+            generator.writeStartObject();
+            generator.writeObjectFieldStart(TRANSLATIONS_FIELD);
+            final Iterator<DictionaryTranslationView> iterator = dictionaryTranslations.iterator();
+            while (iterator.hasNext()) {
+                final DictionaryTranslationView dictionaryTranslation = iterator.next();
+                generator.writeFieldName(dictionaryTranslation.englishPhrase());
+                translationWriter.writeValue(generator, DictionaryUtils.toExportedTranslation(dictionaryTranslation));
             }
+            generator.writeEndObject();
+            generator.writeNumberField(VERSION_FIELD, version);
+            generator.writeEndObject();
+        }
+    }
 
-            return Collections.emptyMap();
-        } else {
+    /**
+     * Gets a page of the dictionary entries matching the filter, in id order.
+     *
+     * @param afterId when given, the page starts after the entry with this id (i.e. the last entry of the previous
+     *                page)
+     */
+    @Transactional(readOnly = true)
+    public DictionaryPage getDictionaryPage(final DictionaryEntryFilter filter, final Long afterId, final int limit) {
+
+        validatePageRequest(limit);
+
+        // NB: read one entry more than the page holds, to tell whether there is a next page
+        final List<DictionaryEntryView> entries =
+            dictionaryPageRepository.findPage(filter, afterId == null ? 0L : afterId, limit + 1);
+        final List<DictionaryEntry> page = entries.stream()
+            .limit(limit)
+            .map(DictionaryUtils::toDictionaryEntry)
+            .toList();
+        return new DictionaryPage(page, entries.size() > limit ? page.get(page.size() - 1).getId() : null);
+    }
+
+    /**
+     * Searches the English and Welsh phrases of the dictionary, a page at a time.
+     *
+     * @param cursor when given, the page continues from the {@code nextCursor} of the previous page of the same search
+     */
+    @Transactional(readOnly = true)
+    public DictionarySearchResults searchDictionary(final String query,
+                                                    final SearchMode mode,
+                                                    final String cursor,
+                                                    final int limit) {
+
+        validatePageRequest(limit);
+        final String strippedQuery = query == null ? "" : query.strip();
+        if (strippedQuery.length() < MIN_SEARCH_QUERY_LENGTH) {
+            throw new BadRequestException(BAD_SEARCH_QUERY);
+        }
+
+        // NB: as for pages of the dictionary, read one match more than the page holds
+        return switch (mode) {
+            case SUBSTRING -> toSearchResults(
+                dictionaryPageRepository.findPageContaining(strippedQuery, parseSubstringCursor(cursor), limit + 1),
+                limit,
+                Function.identity(),
+                last -> String.valueOf(last.id())
+            );
+            case SIMILARITY -> {
+                final SimilarityCursor after = SimilarityCursor.parse(cursor);
+                yield toSearchResults(
+                    dictionaryPageRepository.findPageSimilarTo(strippedQuery, after.similarity(), after.id(),
+                                                               limit + 1),
+                    limit,
+                    DictionarySimilarityMatchView::entry,
+                    last -> new SimilarityCursor(last.similarity(), last.entry().id()).toString()
+                );
+            }
+        };
+    }
+
+    private void validatePageRequest(final int limit) {
+        if (!securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)) {
             throw new RoleMissingException(MANAGE_TRANSLATIONS_ROLE);
         }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException(BAD_PAGE_SIZE);
+        }
+    }
+
+    private static <T> DictionarySearchResults toSearchResults(final List<T> matches,
+                                                               final int limit,
+                                                               final Function<T, DictionaryEntryView> entryOf,
+                                                               final Function<T, String> cursorOf) {
+        final List<DictionaryEntry> entries = matches.stream()
+            .limit(limit)
+            .map(entryOf.andThen(DictionaryUtils::toDictionaryEntry))
+            .toList();
+        return new DictionarySearchResults(entries,
+                                           matches.size() > limit ? cursorOf.apply(matches.get(limit - 1)) : null);
+    }
+
+    private static long parseSubstringCursor(final String cursor) {
+        try {
+            return cursor == null ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(BAD_CURSOR);
+        }
     }
 
-    @Transactional
-    @Retryable(
-        value = {EnglishPhraseUniqueConstraintException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 50)
-    )
     public Map<String, Translation> getTranslations(@NonNull final Set<String> phrases) {
-        return phrases.stream()
-            .map(phrase -> {
-                final Translation translation = getTranslation(phrase);
-                return Map.of(phrase, translation);
-            })
-            .flatMap(m -> m.entrySet().stream())
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
-
-    Translation getTranslation(@NonNull final String englishPhrase) {
-        final DictionaryEntity entity = dictionaryRepository.findByEnglishPhrase(englishPhrase)
-            .orElseGet(() -> {
-                DictionaryEntity dictionaryEntity = new DictionaryEntity();
-                dictionaryEntity.setEnglishPhrase(englishPhrase);
-                return dictionaryRepository.saveAndFlush(dictionaryEntity);
-            });
-
-        if (entity.getTranslationPhrase() == null) {
-            return new Translation(entity.getEnglishPhrase());
-        }
-
-        return new Translation(
-            entity.getTranslationPhrase(),
-            entity.getYesOrNo(),
-            entity.getYes(),
-            entity.getNo()
-        );
+        final Map<String, Translation> translations = new HashMap<>(phrases.size());
+        final Set<String> missingPhrases = new HashSet<>();
+        phrases.forEach(phrase -> translationSnapshotCache.get(phrase).ifPresentOrElse(
+            translation -> translations.put(phrase, translation),
+            () -> missingPhrases.add(phrase)
+        ));
+
+        if (!missingPhrases.isEmpty()) {
+            // NB: only phrases missing from the snapshot fall through to the database. The lookup may be served by
+            // a replica that has not yet replayed a delete, so it is not merged into the snapshot, which is kept up
+            // to date from the primary after each change
+            dictionaryRepository.findAllByEnglishPhraseIn(missingPhrases)
+                .forEach(entity -> translations.put(entity.getEnglishPhrase(), DictionaryUtils.toTranslation(entity)));
+        }
+
+        // NB: usage is only counted for phrases in the dictionary, so callers cannot grow the counts with any phrase
+        phraseUsageRecorder.record(Set.copyOf(translations.keySet()));
+
+        if (translations.size() < phrases.size()) {
+            final Set<String> untranslatedPhrases = missingPhrases.stream()
+                .filter(phrase -> !translations.containsKey(phrase))
+                .collect(Collectors.toSet());
+            untranslatedPhrases.forEach(phrase -> translations.put(phrase, new Translation(phrase)));
+            // NB: added to the dictionary in the background so this read path never waits on a write
+            untranslatedPhraseRecorder.record(untranslatedPhrases);
+        }
+
+        return translations;
     }
 
     @Transactional
@@ -154,56 +297,85 @@ public class DictionaryService {
         final var isManageTranslationRole = securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE);
         validateDictionary(dictionaryRequest, isManageTranslationRole);
 
-        final var translationUploadEntity = hasAnyTranslations(dictionaryRequest)
-            ? dictionaryMapper.createTranslationUploadEntity(securityUtils.getUserInfo().getUid())
+        // NB: the upload is saved, allocating its version in this transaction, by the first phrase whose translation
+        // actually changes, and shared by every other phrase the request translates
+        final var translationUpload = hasAnyTranslations(dictionaryRequest)
+            ? new LazyTranslationUpload(
+                dictionaryMapper.createTranslationUploadEntity(securityUtils.getUserInfo().getUid()))
             : null;
 
-        dictionaryRequest.getTranslations().entrySet()
-            .forEach(phrase -> processPhrase(phrase, translationUploadEntity));
+        // NB: read every existing phrase up front and write all the changes in JDBC batches, rather than two
+        // round-trips per phrase
+        final Map<String, DictionaryEntity> existingEntities = dictionaryRepository
+            .findAllByEnglishPhraseIn(dictionaryRequest.getTranslations().keySet()).stream()
+            .collect(Collectors.toMap(DictionaryEntity::getEnglishPhrase, Function.identity()));
+
+        final List<DictionaryEntity> changedEntities = dictionaryRequest.getTranslations().entrySet().stream()
+            .map(phrase -> processPhrase(phrase, existingEntities.get(phrase.getKey()), translationUpload))
+            .flatMap(Optional::stream)
+            .toList();
+        dictionaryRepository.saveAllAndFlush(changedEntities);
+
+        applicationEventPublisher.publishEvent(
+            DictionaryChangedEvent.forPhrases(dictionaryRequest.getTranslations().keySet())
+        );
     }
 
-    private void processPhrase(Map.Entry<String, Translation> currentPhrase,
-                               TranslationUploadEntity translationUploadEntity) {
+    private TranslationUploadEntity saveTranslationUpload(final TranslationUploadEntity translationUploadEntity) {
+        translationVersionBarrier.enterUpload();
+        return translationUploadRepository.save(translationUploadEntity);
+    }
 
-        final var result = dictionaryRepository.findByEnglishPhrase(currentPhrase.getKey());
-        if (result.isPresent()) {
-            updatePhrase(currentPhrase, result.get(), translationUploadEntity);
-        } else {
-            createNewPhrase(currentPhrase, translationUploadEntity);
-        }
+    private Optional<DictionaryEntity> processPhrase(Map.Entry<String, Translation> currentPhrase,
+                                                     DictionaryEntity existingEntity,
+                                                     Supplier<TranslationUploadEntity> translationUpload) {
+
+        return existingEntity == null
+            ? Optional.of(createNewPhrase(currentPhrase, translationUpload))
+            : updatePhrase(currentPhrase, existingEntity, translationUpload);
     }
 
 
-    private void createNewPhrase(Map.Entry<String, Translation> currentPhrase,
-                                 TranslationUploadEntity translationUploadOptional) {
+    private DictionaryEntity createNewPhrase(Map.Entry<String, Translation> currentPhrase,
+                                             Supplier<TranslationUploadEntity> translationUpload) {
 
-        final var newEntity = hasTranslationPhrase(currentPhrase)
-            ? dictionaryMapper.modelToEntityWithTranslationUploadEntity(currentPhrase, translationUploadOptional)
+        return hasTranslationPhrase(currentPhrase)
+            ? dictionaryMapper.modelToEntityWithTranslationUploadEntity(currentPhrase, translationUpload.get())
             : dictionaryMapper.modelToEntityWithoutTranslationPhrase(currentPhrase);
-        dictionaryRepository.saveAndFlush(newEntity);
     }
 
-    private void updatePhrase(Map.Entry<String, Translation> currentPhrase,
-                              DictionaryEntity dictionaryEntity,
-                              TranslationUploadEntity translationUploadEntity) {
+    private Optional<DictionaryEntity> updatePhrase(Map.Entry<String, Translation> currentPhrase,
+                                                    DictionaryEntity dictionaryEntity,
+                                                    Supplier<TranslationUploadEntity> translationUpload) {
 
         if (hasTranslationPhrase(currentPhrase)) {
-            dictionaryEntity.setTranslationUpload(translationUploadEntity);
             Translation current = currentPhrase.getValue();
+            if (isUnchanged(current, dictionaryEntity, shouldSetYesOrNo(currentPhrase, dictionaryEntity))) {
+                return Optional.empty();
+            }
+            dictionaryEntity.setTranslationUpload(translationUpload.get());
             dictionaryEntity.setTranslationPhrase(current.getTranslation());
             if (shouldSetYesOrNo(currentPhrase,dictionaryEntity)) {
                 dictionaryEntity.setYesOrNo(current.getYesOrNo());
                 dictionaryEntity.setYes(current.getYes());
                 dictionaryEntity.setNo(current.getNo());
             }
-            // if upload entity has been generated save it now as we know
-            // we have at least one translation that will use it
-            translationUploadRepository.save(translationUploadEntity);
-            dictionaryRepository.saveAndFlush(dictionaryEntity);
+            return Optional.of(dictionaryEntity);
         } else if (shouldSetYesOrNo(currentPhrase,dictionaryEntity)) {
             dictionaryEntity.setYesOrNo(currentPhrase.getValue().getYesOrNo());
-            dictionaryRepository.saveAndFlush(dictionaryEntity);
+            return Optional.of(dictionaryEntity);
         }
+        return Optional.empty();
+    }
+
+    private static boolean isUnchanged(final Translation translation,
+                                       final DictionaryEntity dictionaryEntity,
+                                       final boolean compareYesOrNo) {
+        return Objects.equals(translation.getTranslation(), dictionaryEntity.getTranslationPhrase())
+            && (!compareYesOrNo
+                || (translation.isYesOrNo() == dictionaryEntity.isYesOrNo()
+                    && Objects.equals(translation.getYes(), dictionaryEntity.getYes())
+                    && Objects.equals(translation.getNo(), dictionaryEntity.getNo())));
     }
 
     public void putDictionaryRoleCheck(String clientS2SToken) {
@@ -226,4 +398,57 @@ public class DictionaryService {
         }
     }
 
+    /**
+     * The translation upload for a PUT, saved (and its version allocated) only once a phrase first uses it, so a
+     * request that changes no translation leaves no upload behind.
+     */
+    private final class LazyTranslationUpload implements Supplier<TranslationUploadEntity> {
+
+        private TranslationUploadEntity translationUploadEntity;
+        private boolean saved;
+
+        private LazyTranslationUpload(final TranslationUploadEntity translationUploadEntity) {
+            this.translationUploadEntity = translationUploadEntity;
+        }
+
+        @Override
+        public TranslationUploadEntity get() {
+            if (!saved) {
+                translationUploadEntity = saveTranslationUpload(translationUploadEntity);
+                saved = true;
+            }
+            return translationUploadEntity;
+        }
+    }
+
+    /**
+     * Where a similarity search continues from: the similarity, then id, of the last match on the previous page.
+     */
+    private record SimilarityCursor(float similarity, long id) {
+
+        private static final String SEPARATOR = "_";
+
+        // NB: the first page continues from a similarity no match can reach
+        private static final SimilarityCursor FIRST_PAGE = new SimilarityCursor(2.0f, 0L);
+
+        static SimilarityCursor parse(final String cursor) {
+            if (cursor == null) {
+                return FIRST_PAGE;
+            }
+            final String[] parts = cursor.split(SEPARATOR, -1);
+            if (parts.length != 2) {
+                throw new BadRequestException(BAD_CURSOR);
+            }
+            try {
+                return new SimilarityCursor(Float.parseFloat(parts[0]), Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new BadRequestException(BAD_CURSOR);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return similarity + SEPARATOR + id;
+        }
+    }
 }
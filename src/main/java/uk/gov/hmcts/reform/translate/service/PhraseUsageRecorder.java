@@ -0,0 +1,144 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
+import uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts how often, and when last, each English phrase is requested for translation, and adds those counts to the
+ * dictionary in batches from a background flush, so the translation read path never waits on a write.
+ *
+ * <p>Hits are counted in memory without contention between callers. Each flush swaps in a fresh map of counts and
+ * writes the one it replaced, so only the phrases requested since the previous flush are held in memory. Only the hits
+ * a flush has written are taken off the counts, and whatever is left (hits held back by a failed write, or recorded
+ * against the replaced map while it was being swapped out) is carried over by the next flush.
+ */
+@Component
+@Slf4j
+public class PhraseUsageRecorder {
+
+    public static final String TRACKED_PHRASES_METRIC = "ts.phrase-usage.tracked.phrases";
+
+    private final DictionaryRepository dictionaryRepository;
+    private final int flushBatchSize;
+
+    private volatile Map<String, PhraseUsage> phraseUsages = new ConcurrentHashMap<>();
+    // NB: only read and replaced by flush, so guarded by its lock
+    private Map<String, PhraseUsage> flushedPhraseUsages = Map.of();
+
+    @Autowired
+    public PhraseUsageRecorder(final @Qualifier(DefaultDictionaryRepository.QUALIFIER)
+                                DictionaryRepository dictionaryRepository,
+                               ApplicationParams applicationParams,
+                               MeterRegistry meterRegistry) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.flushBatchSize = applicationParams.getPhraseUsageFlushBatchSize();
+
+        Gauge.builder(TRACKED_PHRASES_METRIC, this, recorder -> recorder.phraseUsages.size())
+            .description("English phrases whose usage is being counted")
+            .register(meterRegistry);
+    }
+
+    public void record(final Collection<String> englishPhrases) {
+        final long now = System.currentTimeMillis();
+        final Map<String, PhraseUsage> usages = phraseUsages;
+        englishPhrases.forEach(englishPhrase ->
+            usages.computeIfAbsent(englishPhrase, phrase -> new PhraseUsage()).record(now)
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${ts.phrase-usage.flush-interval:PT1M}")
+    public synchronized void flush() {
+        final Map<String, PhraseUsage> unflushedPhraseUsages = phraseUsages;
+        phraseUsages = new ConcurrentHashMap<>();
+
+        // NB: the map written by the previous flush was swapped out a whole flush interval ago, so nothing is still
+        // recording against it and whatever it has left can be moved safely
+        flushedPhraseUsages.forEach((englishPhrase, phraseUsage) -> {
+            final long hits = phraseUsage.hits.sum();
+            if (hits > 0) {
+                unflushedPhraseUsages.computeIfAbsent(englishPhrase, phrase -> new PhraseUsage())
+                    .add(hits, phraseUsage.lastRequestedAt.get());
+            }
+        });
+        flushedPhraseUsages = unflushedPhraseUsages;
+
+        final List<PendingUsage> batch = new ArrayList<>(flushBatchSize);
+        unflushedPhraseUsages.forEach((englishPhrase, phraseUsage) -> {
+            final long hits = phraseUsage.hits.sum();
+            if (hits > 0) {
+                batch.add(new PendingUsage(phraseUsage, new PhraseUsageView(
+                    englishPhrase, hits, toLocalDateTime(phraseUsage.lastRequestedAt.get())
+                )));
+            }
+            if (batch.size() == flushBatchSize) {
+                write(batch);
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private void write(final List<PendingUsage> batch) {
+        try {
+            final int updated = dictionaryRepository.addPhraseUsage(batch.stream().map(PendingUsage::view).toList());
+            log.debug("Added usage of {} of {} phrases to the dictionary", updated, batch.size());
+            batch.forEach(pending -> pending.phraseUsage().hits.add(-pending.view().hitCount()));
+        } catch (RuntimeException e) {
+            // the hits are kept and written by the next flush
+            log.warn("Failed to add usage of {} phrases to the dictionary", batch.size(), e);
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(final long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("Writing usage of {} counted phrases before shutdown", phraseUsages.size());
+        flush();
+    }
+
+    private static class PhraseUsage {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAccumulator lastRequestedAt = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        void record(final long now) {
+            // NB: time first, so a flush never sees a hit without its time
+            lastRequestedAt.accumulate(now);
+            hits.increment();
+        }
+
+        void add(final long hitCount, final long requestedAt) {
+            lastRequestedAt.accumulate(requestedAt);
+            hits.add(hitCount);
+        }
+    }
+
+    private record PendingUsage(PhraseUsage phraseUsage, PhraseUsageView view) {
+    }
+}
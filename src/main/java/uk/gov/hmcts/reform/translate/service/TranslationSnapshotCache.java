@@ -0,0 +1,116 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.helper.DictionaryUtils;
+import uk.gov.hmcts.reform.translate.model.Translation;
+import uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * In-process snapshot of the whole dictionary (English phrase to {@link Translation}) used to serve translation
+ * requests without a database round-trip.
+ *
+ * <p>The snapshot is an immutable map that is swapped atomically: readers never lock, while writers build a new map
+ * from the current one and replace it. It is loaded when the application is ready and updated after each committed
+ * change to the dictionary, whether made on this node or (via {@link DictionaryChangeListener}) on another.
+ *
+ * <p>The snapshot is always read in a read-write transaction, so from the primary rather than a replica that may not
+ * yet have the change.
+ */
+@Component
+@Slf4j
+public class TranslationSnapshotCache {
+
+    public static final String LOOKUPS_METRIC = "ts.dictionary.snapshot.lookups";
+    public static final String SIZE_METRIC = "ts.dictionary.snapshot.size";
+
+    private final DictionaryRepository dictionaryRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private volatile Map<String, Translation> snapshot = Map.of();
+
+    @Autowired
+    public TranslationSnapshotCache(final @Qualifier(DefaultDictionaryRepository.QUALIFIER)
+                                     DictionaryRepository dictionaryRepository,
+                                    MeterRegistry meterRegistry) {
+        this.dictionaryRepository = dictionaryRepository;
+
+        this.hitCounter = Counter.builder(LOOKUPS_METRIC)
+            .description("Translation lookups served from the dictionary snapshot")
+            .tag("result", "hit")
+            .register(meterRegistry);
+        this.missCounter = Counter.builder(LOOKUPS_METRIC)
+            .description("Translation lookups served from the dictionary snapshot")
+            .tag("result", "miss")
+            .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, cache -> cache.snapshot.size())
+            .description("Number of phrases held in the dictionary snapshot")
+            .register(meterRegistry);
+    }
+
+    public Optional<Translation> get(final String englishPhrase) {
+        final Translation translation = snapshot.get(englishPhrase);
+        (translation == null ? missCounter : hitCounter).increment();
+        return Optional.ofNullable(translation);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public synchronized void reload() {
+        snapshot = toTranslations(dictionaryRepository.findAll());
+        log.info("Loaded {} phrases into the dictionary snapshot", snapshot.size());
+    }
+
+    // NB: reload() and refresh() are called on this instance, bypassing their @Transactional, so the transaction is
+    // started here instead; it must be a new one, as the publisher's transaction has already committed
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onDictionaryChanged(final DictionaryChangedEvent event) {
+        if (event.isAllPhrases()) {
+            reload();
+        } else {
+            refresh(event.englishPhrases());
+        }
+    }
+
+    /**
+     * Re-reads the given phrases from the database, replacing or removing their snapshot entries.
+     */
+    @Transactional
+    public synchronized void refresh(final Collection<String> englishPhrases) {
+        replace(englishPhrases, toTranslations(dictionaryRepository.findAllByEnglishPhraseIn(englishPhrases)));
+    }
+
+    private void replace(final Collection<String> englishPhrases, final Map<String, Translation> translations) {
+        final Map<String, Translation> next = new HashMap<>(snapshot);
+        englishPhrases.forEach(next::remove);
+        next.putAll(translations);
+        snapshot = Map.copyOf(next);
+    }
+
+    private static Map<String, Translation> toTranslations(final List<DictionaryEntity> dictionaryEntities) {
+        return dictionaryEntities.stream()
+            .collect(Collectors.toUnmodifiableMap(DictionaryEntity::getEnglishPhrase, DictionaryUtils::toTranslation));
+    }
+}
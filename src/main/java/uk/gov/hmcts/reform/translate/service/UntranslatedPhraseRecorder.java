@@ -0,0 +1,108 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Write-behind recorder for English phrases that were requested for translation but are not yet in the dictionary.
+ *
+ * <p>Phrases are queued without blocking the caller and added to the dictionary in batches by a background
+ * flush, so the translation read path never waits on a write. A phrase is only queued once until it has been
+ * flushed, so a few frequently requested phrases cannot fill the queue. When the queue is full the phrase is
+ * dropped: it will be queued again the next time it is requested.
+ *
+ * <p>Each flushed batch is published as a dictionary change, so every node's snapshot, this one's included, re-reads
+ * the new phrases from the primary and serves them without a database lookup from then on.
+ */
+@Component
+@Slf4j
+public class UntranslatedPhraseRecorder {
+
+    public static final String QUEUE_DEPTH_METRIC = "ts.untranslated.phrases.queue.depth";
+    public static final String DROPPED_METRIC = "ts.untranslated.phrases.dropped";
+
+    private final DictionaryRepository dictionaryRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final BlockingQueue<String> queue;
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private final int flushBatchSize;
+    private final Counter droppedCounter;
+
+    @Autowired
+    public UntranslatedPhraseRecorder(final @Qualifier(DefaultDictionaryRepository.QUALIFIER)
+                                       DictionaryRepository dictionaryRepository,
+                                      ApplicationEventPublisher applicationEventPublisher,
+                                      ApplicationParams applicationParams,
+                                      MeterRegistry meterRegistry) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.queue = new LinkedBlockingQueue<>(applicationParams.getUntranslatedPhrasesQueueCapacity());
+        this.flushBatchSize = applicationParams.getUntranslatedPhrasesFlushBatchSize();
+
+        Gauge.builder(QUEUE_DEPTH_METRIC, queue, BlockingQueue::size)
+            .description("Untranslated phrases waiting to be added to the dictionary")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder(DROPPED_METRIC)
+            .description("Untranslated phrases not recorded because the queue was full")
+            .register(meterRegistry);
+    }
+
+    public void record(final Collection<String> englishPhrases) {
+        englishPhrases.forEach(englishPhrase -> {
+            if (!pending.add(englishPhrase)) {
+                return;
+            }
+            if (!queue.offer(englishPhrase)) {
+                pending.remove(englishPhrase);
+                droppedCounter.increment();
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${ts.untranslated-phrases.flush-interval:PT1S}")
+    public synchronized void flush() {
+        final List<String> batch = new ArrayList<>(flushBatchSize);
+        while (queue.drainTo(batch, flushBatchSize) > 0) {
+            final Set<String> englishPhrases = new HashSet<>(batch);
+            batch.clear();
+            try {
+                final int added = dictionaryRepository.insertEnglishPhrasesIfAbsent(englishPhrases);
+                log.debug("Added {} of {} untranslated phrases to the dictionary", added, englishPhrases.size());
+                // NB: the whole batch, as phrases added by another node at the same time may be missing here too
+                applicationEventPublisher.publishEvent(DictionaryChangedEvent.forPhrases(englishPhrases));
+            } catch (RuntimeException e) {
+                // the phrases will be queued again the next time they are requested
+                log.warn("Failed to add {} untranslated phrases to the dictionary", englishPhrases.size(), e);
+            } finally {
+                // NB: only once in the snapshot, so requests in the meantime are not queued again
+                pending.removeAll(englishPhrases);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void drain() {
+        log.info("Draining {} queued untranslated phrases before shutdown", queue.size());
+        flush();
+    }
+}
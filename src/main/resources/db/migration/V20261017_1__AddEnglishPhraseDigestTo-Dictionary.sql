@@ -0,0 +1,27 @@
+-- Replace the unique btree over the (up to 64000 character) english_phrase with one over its fixed-width SHA-256 digest
+
+ALTER TABLE ONLY public.dictionary
+    ADD COLUMN english_phrase_digest bytea;
+
+CREATE FUNCTION public.set_english_phrase_digest() RETURNS trigger AS $$
+BEGIN
+    NEW.english_phrase_digest := sha256(convert_to(NEW.english_phrase, 'UTF8'));
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER dictionary_english_phrase_digest
+    BEFORE INSERT OR UPDATE OF english_phrase ON public.dictionary
+    FOR EACH ROW EXECUTE FUNCTION public.set_english_phrase_digest();
+
+UPDATE public.dictionary
+    SET english_phrase_digest = sha256(convert_to(english_phrase, 'UTF8'));
+
+ALTER TABLE ONLY public.dictionary
+    ALTER COLUMN english_phrase_digest SET NOT NULL;
+
+ALTER TABLE ONLY public.dictionary
+    ADD CONSTRAINT english_phrase_digest_unique UNIQUE (english_phrase_digest);
+
+ALTER TABLE ONLY public.dictionary
+    DROP CONSTRAINT english_phrase_unique;
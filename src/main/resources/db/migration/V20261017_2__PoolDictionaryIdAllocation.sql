@@ -0,0 +1,4 @@
+-- Hand out dictionary ids in blocks of 50 (see DictionaryEntity) so batched inserts need no round-trip per id
+
+ALTER SEQUENCE public.dictionary_id_seq
+    INCREMENT BY 50;
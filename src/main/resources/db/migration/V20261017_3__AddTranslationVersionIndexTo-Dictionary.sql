@@ -0,0 +1,4 @@
+-- Index dictionary.translation_version for exports of the entries changed since a given upload version
+
+CREATE INDEX dictionary_translation_version_idx
+    ON public.dictionary (translation_version);
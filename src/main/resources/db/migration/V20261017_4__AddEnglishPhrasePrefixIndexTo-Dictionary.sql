@@ -0,0 +1,5 @@
+-- Index the start of dictionary.english_phrase, in byte order, so phrases can be found by prefix (e.g. test phrases)
+-- without a btree over the whole (up to 64000 character) phrase
+
+CREATE INDEX dictionary_english_phrase_prefix_idx
+    ON public.dictionary ((left(english_phrase, 64)) COLLATE "C");
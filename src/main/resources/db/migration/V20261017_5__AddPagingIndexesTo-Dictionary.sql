@@ -0,0 +1,17 @@
+-- Index dictionary.id for each filter of the paged dictionary entries, so each page is read in id order from the
+-- index matching its filter
+
+CREATE INDEX dictionary_untranslated_id_idx
+    ON public.dictionary (id) WHERE translation_phrase IS NULL;
+
+CREATE INDEX dictionary_translated_id_idx
+    ON public.dictionary (id) WHERE translation_phrase IS NOT NULL;
+
+CREATE INDEX dictionary_yes_or_no_id_idx
+    ON public.dictionary (id) WHERE yes_or_no;
+
+-- replaces the index on translation_version alone, which it also serves for exports since a given upload version
+CREATE INDEX dictionary_translation_version_id_idx
+    ON public.dictionary (translation_version, id);
+
+DROP INDEX public.dictionary_translation_version_idx;
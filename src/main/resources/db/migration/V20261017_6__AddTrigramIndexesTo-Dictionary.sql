@@ -0,0 +1,9 @@
+-- Index the English and Welsh phrases by trigram, for searching the dictionary by substring or similarity
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX dictionary_english_phrase_trgm_idx
+    ON public.dictionary USING gin (english_phrase gin_trgm_ops);
+
+CREATE INDEX dictionary_translation_phrase_trgm_idx
+    ON public.dictionary USING gin (translation_phrase gin_trgm_ops);
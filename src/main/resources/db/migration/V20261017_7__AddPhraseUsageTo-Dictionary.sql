@@ -0,0 +1,5 @@
+-- Track how often, and how recently, each phrase is requested for translation
+
+ALTER TABLE ONLY public.dictionary
+    ADD COLUMN hit_count bigint NOT NULL DEFAULT 0,
+    ADD COLUMN last_requested_at timestamp without time zone;
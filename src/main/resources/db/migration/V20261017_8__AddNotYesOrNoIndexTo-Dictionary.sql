@@ -0,0 +1,5 @@
+-- Index dictionary.id for the entries that are not yes/no phrases, so the paged dictionary entries filtered on them
+-- are read in id order from an index, as for the other filters
+
+CREATE INDEX dictionary_not_yes_or_no_id_idx
+    ON public.dictionary (id) WHERE yes_or_no IS NOT TRUE;
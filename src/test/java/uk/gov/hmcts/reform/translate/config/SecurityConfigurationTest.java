@@ -2,10 +2,10 @@ package uk.gov.hmcts.reform.translate.config;
 
 import uk.gov.hmcts.reform.authorisation.filters.ServiceAuthFilter;
 import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
 import uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
-import uk.gov.hmcts.reform.translate.security.filter.PutDictionaryEndpointFilter;
-import uk.gov.hmcts.reform.translate.security.filter.TranslateCyEndpointFilter;
+import uk.gov.hmcts.reform.translate.security.filter.PermitAllEndpointFilter;
 import uk.gov.hmcts.reform.translate.security.idam.IdamRepository;
 
 import java.util.List;
@@ -113,13 +113,8 @@ class SecurityConfigurationTest {
         }
 
         @Bean
-        PutDictionaryEndpointFilter putDictionaryEndpointFilter() {
-            return new PutDictionaryEndpointFilter(mock(SecurityUtils.class));
-        }
-
-        @Bean
-        TranslateCyEndpointFilter translateCyEndpointFilter() {
-            return new TranslateCyEndpointFilter();
+        PermitAllEndpointFilter permitAllEndpointFilter() {
+            return new PermitAllEndpointFilter(mock(SecurityUtils.class), mock(ApplicationParams.class));
         }
 
         @Bean
@@ -5,9 +5,10 @@ import uk.gov.hmcts.reform.translate.model.Dictionary;
 import uk.gov.hmcts.reform.translate.model.Translation;
 import uk.gov.hmcts.reform.translate.model.TranslationsRequest;
 import uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter;
-import uk.gov.hmcts.reform.translate.security.filter.PutDictionaryEndpointFilter;
+import uk.gov.hmcts.reform.translate.security.filter.PermitAllEndpointFilter;
 import uk.gov.hmcts.reform.translate.service.DictionaryService;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -26,11 +28,12 @@ import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 
 @WebMvcTest(controllers = DictionaryController.class,
     excludeFilters = @ComponentScan.Filter(type = ASSIGNABLE_TYPE,
-        classes = {PutDictionaryEndpointFilter.class, SecurityConfiguration.class,
+        classes = {PermitAllEndpointFilter.class, SecurityConfiguration.class,
             JwtGrantedAuthoritiesConverter.class}))
 class DictionaryControllerTest extends BaseControllerTest {
 
@@ -50,9 +53,23 @@ class DictionaryControllerTest extends BaseControllerTest {
     @DisplayName("getDictionary")
     class GetDictionary {
         @Test
-        void shouldReturn200() {
-            dictionaryController.getDictionary();
-            verify(dictionaryService).getDictionaryContents();
+        void shouldReturn200() throws IOException {
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+
+            dictionaryController.getDictionary(null, response);
+
+            assertThat(response.getContentType()).startsWith(APPLICATION_JSON_VALUE);
+            verify(dictionaryService).writeDictionaryContents(response.getOutputStream(), null);
+        }
+
+        @Test
+        void shouldReturn200SinceVersion() throws IOException {
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+
+            dictionaryController.getDictionary(3L, response);
+
+            assertThat(response.getContentType()).startsWith(APPLICATION_JSON_VALUE);
+            verify(dictionaryService).writeDictionaryContents(response.getOutputStream(), 3L);
         }
     }
 
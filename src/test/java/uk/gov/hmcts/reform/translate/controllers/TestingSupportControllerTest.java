@@ -2,7 +2,7 @@ package uk.gov.hmcts.reform.translate.controllers;
 
 import uk.gov.hmcts.reform.translate.config.SecurityConfiguration;
 import uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter;
-import uk.gov.hmcts.reform.translate.security.filter.PutDictionaryEndpointFilter;
+import uk.gov.hmcts.reform.translate.security.filter.PermitAllEndpointFilter;
 import uk.gov.hmcts.reform.translate.service.DictionaryService;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -20,7 +20,7 @@ import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
     controllers = TestingSupportController.class,
     properties = {"ts.endpoints.testing-support.enabled=true"},
     excludeFilters = @ComponentScan.Filter(type = ASSIGNABLE_TYPE,
-        classes = {PutDictionaryEndpointFilter.class, SecurityConfiguration.class,
+        classes = {PermitAllEndpointFilter.class, SecurityConfiguration.class,
             JwtGrantedAuthoritiesConverter.class})
 )
 class TestingSupportControllerTest extends BaseControllerTest {
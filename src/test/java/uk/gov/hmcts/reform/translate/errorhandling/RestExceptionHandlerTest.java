@@ -3,7 +3,7 @@ package uk.gov.hmcts.reform.translate.errorhandling;
 import uk.gov.hmcts.reform.translate.config.SecurityConfiguration;
 import uk.gov.hmcts.reform.translate.controllers.DictionaryController;
 import uk.gov.hmcts.reform.translate.security.JwtGrantedAuthoritiesConverter;
-import uk.gov.hmcts.reform.translate.security.filter.PutDictionaryEndpointFilter;
+import uk.gov.hmcts.reform.translate.security.filter.PermitAllEndpointFilter;
 import uk.gov.hmcts.reform.translate.service.DictionaryService;
 
 import java.lang.reflect.Method;
@@ -32,7 +32,8 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
-import static org.mockito.BDDMockito.given;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.springframework.context.annotation.FilterType.ASSIGNABLE_TYPE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -43,7 +44,7 @@ import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SC
 @WebMvcTest(controllers = DictionaryController.class,
     includeFilters = @ComponentScan.Filter(type = ASSIGNABLE_TYPE, classes = MapperConfig.class),
     excludeFilters = @ComponentScan.Filter(type = ASSIGNABLE_TYPE,
-        classes = {PutDictionaryEndpointFilter.class, SecurityConfiguration.class,
+        classes = {PermitAllEndpointFilter.class, SecurityConfiguration.class,
             JwtGrantedAuthoritiesConverter.class}))
 @AutoConfigureMockMvc(addFilters = false)
 class RestExceptionHandlerTest {
@@ -220,9 +221,9 @@ class RestExceptionHandlerTest {
         MethodParameter methodParameter = new MethodParameter(methods[0], 0);
 
         /// WHEN
-        given(service.getDictionaryContents()).willAnswer(invocation -> {
+        willAnswer(invocation -> {
             throw new MethodArgumentNotValidException(methodParameter, bindingResult);
-        });
+        }).given(service).writeDictionaryContents(any(), any());
 
         ResultActions result = this.mockMvc.perform(get(DICTIONARY_URL)
                                                         .contentType(MediaType.APPLICATION_JSON));
@@ -233,7 +234,9 @@ class RestExceptionHandlerTest {
 
     private void setupMockServiceToThrowException(Exception expectedException) {
         // configure chosen mock service to throw exception when controller is run
-        given(service.getDictionaryContents()).willThrow(expectedException);
+        willAnswer(invocation -> {
+            throw expectedException;
+        }).given(service).writeDictionaryContents(any(), any());
     }
 
     private void assertHttpErrorResponse(ResultActions result,
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.translate.helper;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
 import uk.gov.hmcts.reform.translate.model.Translation;
 
@@ -9,6 +10,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.stream.IntStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,6 +43,30 @@ class DictionaryUtilsTest {
             });
     }
 
+    @Test
+    void testForToTranslationWhenTranslationPhraseIsNull() {
+        final var dictionaryEntity = new DictionaryEntity();
+        dictionaryEntity.setEnglishPhrase("english");
+
+        final var result = DictionaryUtils.toTranslation(dictionaryEntity);
+
+        assertEquals(new Translation("english"), result);
+    }
+
+    @Test
+    void testForToTranslationWithYesOrNo() {
+        final var dictionaryEntity = new DictionaryEntity();
+        dictionaryEntity.setEnglishPhrase("english");
+        dictionaryEntity.setTranslationPhrase("translated");
+        dictionaryEntity.setYesOrNo(true);
+        dictionaryEntity.setYes("yes");
+        dictionaryEntity.setNo("no");
+
+        final var result = DictionaryUtils.toTranslation(dictionaryEntity);
+
+        assertEquals(new Translation("translated", true, "yes", "no"), result);
+    }
+
     private Dictionary getDictionaryRequestWithoutABody(int from, int to) {
         final Map<String, Translation> expectedMap = new HashMap<>();
         IntStream.range(from, to).forEach(i -> expectedMap.put("english_" + i, new Translation("")));
@@ -9,17 +9,28 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
 import uk.gov.hmcts.reform.translate.errorhandling.EnglishPhraseUniqueConstraintException;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository.DELETE_CHUNK_SIZE;
+import static uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository.ENGLISH_PHRASE_BATCH_SIZE;
 import static uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository.ENGLISH_PHRASE_UNIQUE_CONSTRAINT;
 
 @DisplayName("DefaultDictionaryRepository")
@@ -51,6 +62,40 @@ class DefaultDictionaryRepositoryTest {
         assertEquals(dictionaryEntity, response.get(0));
     }
 
+    @Test
+    @DisplayName("should call decorated operation: streamAllTranslations")
+    void shouldCallDecoratedOperation_streamAllTranslations() {
+
+        // GIVEN
+        final DictionaryTranslationView dictionaryTranslation =
+            new DictionaryTranslationView(ENGLISH_PHRASE, null, null, null, null);
+        when(dictionaryRepository.streamAllTranslations()).thenReturn(Stream.of(dictionaryTranslation));
+
+        // WHEN
+        var response = underTest.streamAllTranslations();
+
+        // THEN
+        verify(dictionaryRepository).streamAllTranslations();
+        assertThat(response).containsExactly(dictionaryTranslation);
+    }
+
+    @Test
+    @DisplayName("should call decorated operation: streamAllTranslationsSince")
+    void shouldCallDecoratedOperation_streamAllTranslationsSince() {
+
+        // GIVEN
+        final DictionaryTranslationView dictionaryTranslation =
+            new DictionaryTranslationView(ENGLISH_PHRASE, null, null, null, null);
+        when(dictionaryRepository.streamAllTranslationsSince(1L)).thenReturn(Stream.of(dictionaryTranslation));
+
+        // WHEN
+        var response = underTest.streamAllTranslationsSince(1L);
+
+        // THEN
+        verify(dictionaryRepository).streamAllTranslationsSince(1L);
+        assertThat(response).containsExactly(dictionaryTranslation);
+    }
+
     @Test
     @DisplayName("should call decorated operation: findByEnglishPhrase")
     void shouldCallDecoratedOperation_findByEnglishPhrase() {
@@ -66,6 +111,91 @@ class DefaultDictionaryRepositoryTest {
         assertEquals(dictionaryEntity, response.orElse(null));
     }
 
+    @Test
+    @DisplayName("should call decorated operation: findAllByEnglishPhraseIn")
+    void shouldCallDecoratedOperation_findAllByEnglishPhraseIn() {
+
+        // GIVEN
+        when(dictionaryRepository.findAllByEnglishPhraseIn(List.of(ENGLISH_PHRASE)))
+            .thenReturn(List.of(dictionaryEntity));
+
+        // WHEN
+        var response = underTest.findAllByEnglishPhraseIn(Set.of(ENGLISH_PHRASE));
+
+        // THEN
+        verify(dictionaryRepository).findAllByEnglishPhraseIn(List.of(ENGLISH_PHRASE));
+        assertThat(response).containsExactly(dictionaryEntity);
+    }
+
+    @Test
+    @DisplayName("should split large phrase sets into batches: findAllByEnglishPhraseIn")
+    void shouldBatchDecoratedOperation_findAllByEnglishPhraseIn() {
+
+        // GIVEN
+        final Set<String> phrases = IntStream.range(0, ENGLISH_PHRASE_BATCH_SIZE * 2 + 1)
+            .mapToObj(i -> ENGLISH_PHRASE + i)
+            .collect(Collectors.toSet());
+        when(dictionaryRepository.findAllByEnglishPhraseIn(anyCollection())).thenReturn(List.of(dictionaryEntity));
+
+        // WHEN
+        var response = underTest.findAllByEnglishPhraseIn(phrases);
+
+        // THEN
+        verify(dictionaryRepository, times(3)).findAllByEnglishPhraseIn(anyCollection());
+        assertThat(response).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("should call decorated operation in sorted order: insertEnglishPhrasesIfAbsent")
+    void shouldCallDecoratedOperation_insertEnglishPhrasesIfAbsent() {
+
+        // GIVEN
+        when(dictionaryRepository.insertEnglishPhrasesIfAbsent(List.of("a", "b", "c"))).thenReturn(2);
+
+        // WHEN
+        var response = underTest.insertEnglishPhrasesIfAbsent(Set.of("c", "a", "b"));
+
+        // THEN
+        verify(dictionaryRepository).insertEnglishPhrasesIfAbsent(List.of("a", "b", "c"));
+        assertEquals(2, response);
+    }
+
+    @Test
+    @DisplayName("should split large phrase sets into batches: insertEnglishPhrasesIfAbsent")
+    void shouldBatchDecoratedOperation_insertEnglishPhrasesIfAbsent() {
+
+        // GIVEN
+        final Set<String> phrases = IntStream.range(0, ENGLISH_PHRASE_BATCH_SIZE * 2 + 1)
+            .mapToObj(i -> ENGLISH_PHRASE + i)
+            .collect(Collectors.toSet());
+        when(dictionaryRepository.insertEnglishPhrasesIfAbsent(anyCollection())).thenReturn(1);
+
+        // WHEN
+        var response = underTest.insertEnglishPhrasesIfAbsent(phrases);
+
+        // THEN
+        verify(dictionaryRepository, times(3)).insertEnglishPhrasesIfAbsent(anyCollection());
+        assertEquals(3, response);
+    }
+
+    @Test
+    @DisplayName("should call decorated operation in sorted order: addPhraseUsage")
+    void shouldCallDecoratedOperation_addPhraseUsage() {
+
+        // GIVEN
+        final LocalDateTime now = LocalDateTime.now();
+        final PhraseUsageView usageA = new PhraseUsageView("a", 2, now);
+        final PhraseUsageView usageB = new PhraseUsageView("b", 1, now);
+        when(dictionaryRepository.addPhraseUsage(List.of(usageA, usageB))).thenReturn(2);
+
+        // WHEN
+        var response = underTest.addPhraseUsage(List.of(usageB, usageA));
+
+        // THEN
+        verify(dictionaryRepository).addPhraseUsage(List.of(usageA, usageB));
+        assertEquals(2, response);
+    }
+
     @Test
     @DisplayName("should call decorated operation: findById")
     void shouldCallDecoratedOperation_findById() {
@@ -82,14 +212,35 @@ class DefaultDictionaryRepositoryTest {
     }
 
     @Test
-    @DisplayName("should call decorated operation: deleteByEnglishPhraseStartingWith")
-    void shouldCallDecoratedOperation_deleteByEnglishPhraseStartingWith() {
+    @DisplayName("should delete in chunks until a chunk is not full: deleteByEnglishPhraseStartingWith")
+    void shouldChunkDecoratedOperation_deleteByEnglishPhraseStartingWith() {
+
+        // GIVEN
+        when(dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(ENGLISH_PHRASE, DELETE_CHUNK_SIZE))
+            .thenReturn(DELETE_CHUNK_SIZE, DELETE_CHUNK_SIZE, 3);
+
+        // WHEN
+        var response = underTest.deleteByEnglishPhraseStartingWith(ENGLISH_PHRASE);
+
+        // THEN
+        verify(dictionaryRepository, times(3))
+            .deleteChunkByEnglishPhraseStartingWith(ENGLISH_PHRASE, DELETE_CHUNK_SIZE);
+        assertEquals(DELETE_CHUNK_SIZE * 2L + 3, response);
+    }
+
+    @Test
+    @DisplayName("should call decorated operation: deleteChunkByEnglishPhraseStartingWith")
+    void shouldCallDecoratedOperation_deleteChunkByEnglishPhraseStartingWith() {
+
+        // GIVEN
+        when(dictionaryRepository.deleteChunkByEnglishPhraseStartingWith(ENGLISH_PHRASE, 10)).thenReturn(2);
 
         // WHEN
-        underTest.deleteByEnglishPhraseStartingWith(ENGLISH_PHRASE);
+        var response = underTest.deleteChunkByEnglishPhraseStartingWith(ENGLISH_PHRASE, 10);
 
         // THEN
-        verify(dictionaryRepository).deleteByEnglishPhraseStartingWith(ENGLISH_PHRASE);
+        verify(dictionaryRepository).deleteChunkByEnglishPhraseStartingWith(ENGLISH_PHRASE, 10);
+        assertEquals(2, response);
     }
 
     @Test
@@ -163,4 +314,40 @@ class DefaultDictionaryRepositoryTest {
             .isNotNull()
             .isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    @Test
+    @DisplayName("should call decorated operation: saveAllAndFlush")
+    void shouldCallDecoratedOperation_saveAllAndFlush() {
+
+        // GIVEN
+        when(dictionaryRepository.saveAllAndFlush(List.of(dictionaryEntity))).thenReturn(List.of(dictionaryEntity));
+
+        // WHEN
+        var response = underTest.saveAllAndFlush(List.of(dictionaryEntity));
+
+        // THEN
+        verify(dictionaryRepository).saveAllAndFlush(List.of(dictionaryEntity));
+        assertEquals(List.of(dictionaryEntity), response);
+    }
+
+    @Test
+    @DisplayName("should throw EnglishPhraseUniqueConstraintException if saveAllAndFlush hits recognised constraint")
+    void shouldThrowEnglishPhraseUniqueConstraintExceptionIfSaveAllHitsRecognisedConstraintException() {
+
+        // GIVEN
+        var constraintException = new ConstraintViolationException(
+            "Oops", new SQLException(), ENGLISH_PHRASE_UNIQUE_CONSTRAINT
+        );
+        var dataIntegrityViolationException = new DataIntegrityViolationException("Exception", constraintException);
+        when(dictionaryRepository.saveAllAndFlush(List.of(dictionaryEntity)))
+            .thenThrow(dataIntegrityViolationException);
+
+        // WHEN
+        final Throwable thrown = catchThrowable(() -> underTest.saveAllAndFlush(List.of(dictionaryEntity)));
+
+        // THEN
+        assertThat(thrown)
+            .isNotNull()
+            .isInstanceOf(EnglishPhraseUniqueConstraintException.class);
+    }
 }
@@ -0,0 +1,90 @@
+package uk.gov.hmcts.reform.translate.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static uk.gov.hmcts.reform.translate.repository.EnglishPhrasePrefixRange.INDEX_LENGTH;
+
+@DisplayName("EnglishPhrasePrefixRange")
+class EnglishPhrasePrefixRangeTest {
+
+    private static final String GRINNING_FACE = Character.toString(0x1F600);
+    private static final String GRINNING_FACE_WITH_SMILING_EYES = Character.toString(0x1F601);
+
+    @Test
+    void shouldIncrementLastCharacterForUpperBound() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of("abc");
+
+        // THEN
+        assertThat(range.lowerBound()).isEqualTo("abc");
+        assertThat(range.upperBound()).isEqualTo("abd");
+    }
+
+    @Test
+    void shouldTruncatePrefixToIndexedLength() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of("a".repeat(INDEX_LENGTH) + "bc");
+
+        // THEN
+        assertThat(range.lowerBound()).isEqualTo("a".repeat(INDEX_LENGTH));
+        assertThat(range.upperBound()).isEqualTo("a".repeat(INDEX_LENGTH - 1) + "b");
+    }
+
+    @Test
+    void shouldIncrementSupplementaryCharacterByCodePoint() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of("a" + GRINNING_FACE);
+
+        // THEN
+        assertThat(range.lowerBound()).isEqualTo("a" + GRINNING_FACE);
+        assertThat(range.upperBound()).isEqualTo("a" + GRINNING_FACE_WITH_SMILING_EYES);
+    }
+
+    @Test
+    void shouldTruncatePrefixToIndexedLengthInCodePoints() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of(GRINNING_FACE.repeat(INDEX_LENGTH + 1));
+
+        // THEN
+        assertThat(range.lowerBound()).isEqualTo(GRINNING_FACE.repeat(INDEX_LENGTH));
+        assertThat(range.upperBound())
+            .isEqualTo(GRINNING_FACE.repeat(INDEX_LENGTH - 1) + GRINNING_FACE_WITH_SMILING_EYES);
+    }
+
+    @Test
+    void shouldSkipSurrogatesWhenIncrementing() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range = EnglishPhrasePrefixRange.of("a" + Character.toString(0xD7FF));
+
+        // THEN
+        assertThat(range.upperBound()).isEqualTo("a" + Character.toString(0xE000));
+    }
+
+    @Test
+    void shouldHaveNoUpperBoundWhenLastCharacterCannotBeIncremented() {
+
+        // WHEN
+        final EnglishPhrasePrefixRange range =
+            EnglishPhrasePrefixRange.of("a" + Character.toString(Character.MAX_CODE_POINT));
+
+        // THEN
+        assertThat(range.lowerBound()).isEqualTo("a" + Character.toString(Character.MAX_CODE_POINT));
+        assertThat(range.upperBound()).isNull();
+    }
+
+    @Test
+    void shouldRejectEmptyPrefix() {
+
+        // WHEN / THEN
+        assertThatThrownBy(() -> EnglishPhrasePrefixRange.of(""))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,92 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.authorisation.validators.AuthTokenValidator;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.translate.security.SecurityUtils.BEARER;
+
+@DisplayName("CachingAuthTokenValidator")
+@ExtendWith(MockitoExtension.class)
+class CachingAuthTokenValidatorTest {
+
+    private static final String XUI_WEBAPP = "xui_webapp";
+
+    @Mock
+    private AuthTokenValidator delegate;
+
+    private CachingAuthTokenValidator underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new CachingAuthTokenValidator(delegate, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldValidateTokenWithProviderOnce() {
+        final String token = BEARER + tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(delegate.getServiceName(token)).willReturn(XUI_WEBAPP);
+
+        assertEquals(XUI_WEBAPP, underTest.getServiceName(token));
+        assertEquals(XUI_WEBAPP, underTest.getServiceName(token));
+        underTest.validate(token);
+
+        verify(delegate, times(1)).getServiceName(token);
+    }
+
+    @Test
+    void shouldValidateExpiredTokenWithProviderEveryTime() {
+        final String token = BEARER + tokenExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+        given(delegate.getServiceName(token)).willReturn(XUI_WEBAPP);
+
+        underTest.getServiceName(token);
+        underTest.getServiceName(token);
+
+        verify(delegate, times(2)).getServiceName(token);
+    }
+
+    @Test
+    void shouldNotCacheInvalidToken() {
+        final String token = BEARER + tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(delegate.getServiceName(token)).willThrow(new IllegalStateException("Invalid token"));
+
+        assertThrows(IllegalStateException.class, () -> underTest.getServiceName(token));
+        assertThrows(IllegalStateException.class, () -> underTest.getServiceName(token));
+
+        verify(delegate, times(2)).getServiceName(token);
+    }
+
+    @Test
+    void shouldAlwaysValidateRolesWithProvider() {
+        final String token = BEARER + tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        underTest.validate(token, List.of("role"));
+        underTest.validate(token, List.of("role"));
+
+        verify(delegate, times(2)).validate(token, List.of("role"));
+    }
+
+    private static String tokenExpiringAt(final Instant expiresAt) {
+        return JWT.create()
+            .withSubject(XUI_WEBAPP)
+            .withExpiresAt(expiresAt)
+            .sign(Algorithm.none());
+    }
+}
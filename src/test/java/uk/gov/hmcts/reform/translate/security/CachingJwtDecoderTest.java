@@ -0,0 +1,80 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("CachingJwtDecoder")
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final String USER_TOKEN = "user-token";
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private CachingJwtDecoder underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new CachingJwtDecoder(delegate, 100, Duration.ofHours(1), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldVerifyTokenOnce() {
+        final Jwt jwt = jwtExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(delegate.decode(USER_TOKEN)).willReturn(jwt);
+
+        assertEquals(jwt, underTest.decode(USER_TOKEN));
+        assertEquals(jwt, underTest.decode(USER_TOKEN));
+
+        verify(delegate, times(1)).decode(USER_TOKEN);
+    }
+
+    @Test
+    void shouldVerifyExpiredTokenEveryTime() {
+        final Jwt jwt = jwtExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+        given(delegate.decode(USER_TOKEN)).willReturn(jwt);
+
+        underTest.decode(USER_TOKEN);
+        underTest.decode(USER_TOKEN);
+
+        verify(delegate, times(2)).decode(USER_TOKEN);
+    }
+
+    @Test
+    void shouldNotCacheInvalidToken() {
+        given(delegate.decode(USER_TOKEN)).willThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> underTest.decode(USER_TOKEN));
+        assertThrows(BadJwtException.class, () -> underTest.decode(USER_TOKEN));
+
+        verify(delegate, times(2)).decode(USER_TOKEN);
+    }
+
+    private static Jwt jwtExpiringAt(final Instant expiresAt) {
+        return Jwt.withTokenValue(USER_TOKEN)
+            .header("alg", "RS256")
+            .subject("user@hmcts.net")
+            .issuedAt(expiresAt.minus(8, ChronoUnit.HOURS))
+            .expiresAt(expiresAt)
+            .build();
+    }
+}
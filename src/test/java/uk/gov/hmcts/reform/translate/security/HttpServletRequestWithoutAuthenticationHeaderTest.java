@@ -9,8 +9,10 @@ import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.Enumeration;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class HttpServletRequestWithoutAuthenticationHeaderTest {
     private static final String APPLICATION_JSON = "application/json";
@@ -114,6 +116,25 @@ class HttpServletRequestWithoutAuthenticationHeaderTest {
                     .doesNotContain(HttpHeaders.AUTHORIZATION)
                     .containsExactly(HttpHeaders.ACCEPT, TEST_HEADER));
         }
+
+        @Test
+        void testShouldEnumerateHeaderNamesWithoutAuthorizationOnce() {
+            // GIVEN
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader(HttpHeaders.AUTHORIZATION, BEARER_TOKEN);
+            request.addHeader(HttpHeaders.ACCEPT, APPLICATION_JSON);
+            underTest = new HttpServletRequestWithoutAuthenticationHeader(request);
+
+            // WHEN
+            final Enumeration<String> headerNames = underTest.getHeaderNames();
+
+            // THEN
+            assertThat(headerNames.hasMoreElements()).isTrue();
+            assertThat(headerNames.hasMoreElements()).isTrue();
+            assertThat(headerNames.nextElement()).isEqualTo(HttpHeaders.ACCEPT);
+            assertThat(headerNames.hasMoreElements()).isFalse();
+            assertThrows(NoSuchElementException.class, headerNames::nextElement);
+        }
     }
 
 
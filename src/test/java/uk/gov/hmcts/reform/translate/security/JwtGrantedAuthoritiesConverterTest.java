@@ -6,10 +6,14 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
 import uk.gov.hmcts.reform.translate.security.idam.IdamRepository;
 
 import java.util.Collection;
@@ -18,6 +22,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
@@ -96,6 +101,42 @@ class JwtGrantedAuthoritiesConverterTest {
         assertEquals(1, authorities.size());
     }
 
+    @Test
+    @DisplayName("Should keep user info for the rest of the request")
+    void shouldKeepUserInfoForRequest() {
+        when(jwt.hasClaim(anyString())).thenReturn(true);
+        when(jwt.getClaim(anyString())).thenReturn(ACCESS_TOKEN);
+        when(jwt.getTokenValue()).thenReturn(ACCESS_TOKEN);
+        UserInfo userInfo = mock(UserInfo.class);
+        when(userInfo.getRoles()).thenReturn(List.of("citizen"));
+        when(idamRepository.getUserInfo(anyString())).thenReturn(userInfo);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            converter.convert(jwt);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertSame(userInfo, request.getAttribute(SecurityUtils.USER_INFO_ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Should rethrow IDAM being unavailable as IdamUnavailableAuthenticationException")
+    void shouldReThrowIdamUnavailableAsIdamUnavailableAuthenticationException() {
+        when(jwt.hasClaim(anyString())).thenReturn(true);
+        when(jwt.getClaim(anyString())).thenReturn(ACCESS_TOKEN);
+        when(jwt.getTokenValue()).thenReturn(ACCESS_TOKEN);
+        final IdamUnavailableException idamUnavailableException =
+            new IdamUnavailableException(new IllegalStateException("IDAM unavailable"));
+        when(idamRepository.getUserInfo(anyString())).thenThrow(idamUnavailableException);
+        IdamUnavailableAuthenticationException exception = assertThrows(
+            IdamUnavailableAuthenticationException.class,
+            () -> converter.convert(jwt)
+        );
+
+        assertSame(idamUnavailableException, exception.getCause());
+    }
+
     @Test
     @DisplayName("Should rethrow any exceptions as AuthenticationServiceException")
     void shouldReThrowExceptionsAsAuthenticationServiceException() {
@@ -0,0 +1,193 @@
+package uk.gov.hmcts.reform.translate.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("RefreshingJwkSource")
+@ExtendWith(MockitoExtension.class)
+class RefreshingJwkSourceTest {
+
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+
+    private static URL jwkSetUrl;
+    private static RSAKey key;
+    private static RSAKey rotatedKey;
+
+    @Mock
+    private ResourceRetriever resourceRetriever;
+
+    @BeforeAll
+    static void setUpKeys() throws Exception {
+        jwkSetUrl = URI.create("http://localhost/o/jwks").toURL();
+        key = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+    }
+
+    @Test
+    void shouldNotFetchOnConstruction() throws Exception {
+
+        // WHEN
+        new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, null);
+
+        // THEN
+        verify(resourceRetriever, never()).retrieveResource(any());
+    }
+
+    @Test
+    void shouldServeKeysFromCachedKeySet() throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl)).willReturn(jwkSetResource(key));
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, null);
+
+        // WHEN
+        final List<JWK> first = underTest.get(selectorFor(key), null);
+        final List<JWK> second = underTest.get(selectorFor(key), null);
+
+        // THEN
+        assertThat(first).extracting(JWK::getKeyID).containsExactly(key.getKeyID());
+        assertThat(second).extracting(JWK::getKeyID).containsExactly(key.getKeyID());
+        verify(resourceRetriever, times(1)).retrieveResource(jwkSetUrl);
+    }
+
+    @Test
+    void shouldFetchAgainForUnknownKey() throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl))
+            .willReturn(jwkSetResource(key), jwkSetResource(key, rotatedKey));
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, Duration.ZERO, null);
+        underTest.refresh();
+
+        // WHEN
+        final List<JWK> keys = underTest.get(selectorFor(rotatedKey), null);
+
+        // THEN
+        assertThat(keys).extracting(JWK::getKeyID).containsExactly(rotatedKey.getKeyID());
+        verify(resourceRetriever, times(2)).retrieveResource(jwkSetUrl);
+    }
+
+    @Test
+    void shouldNotFetchForUnknownKeysMoreOftenThanMinimumInterval() throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl)).willReturn(jwkSetResource(key));
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, null);
+        underTest.refresh();
+
+        // WHEN
+        final List<JWK> first = underTest.get(selectorFor(rotatedKey), null);
+        final List<JWK> second = underTest.get(selectorFor(rotatedKey), null);
+
+        // THEN
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(resourceRetriever, times(1)).retrieveResource(jwkSetUrl);
+    }
+
+    @Test
+    void shouldKeepCachedKeySetWhenRefreshFails() throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl))
+            .willReturn(jwkSetResource(key))
+            .willThrow(new IOException("IDAM unavailable"));
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, null);
+        underTest.refresh();
+
+        // WHEN
+        underTest.refresh();
+        final List<JWK> keys = underTest.get(selectorFor(key), null);
+
+        // THEN
+        assertThat(keys).extracting(JWK::getKeyID).containsExactly(key.getKeyID());
+    }
+
+    @Test
+    void shouldServeKeysFromSnapshotBeforeFirstFetch(@TempDir Path tempDir) throws Exception {
+
+        // GIVEN
+        final Path snapshot = tempDir.resolve("jwks.json");
+        Files.writeString(snapshot, new JWKSet(key.toPublicJWK()).toString());
+
+        // WHEN
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, snapshot.toString());
+        final List<JWK> keys = underTest.get(selectorFor(key), null);
+
+        // THEN
+        assertThat(keys).extracting(JWK::getKeyID).containsExactly(key.getKeyID());
+        verify(resourceRetriever, never()).retrieveResource(any());
+    }
+
+    @Test
+    void shouldFetchWhenSnapshotCannotBeLoaded(@TempDir Path tempDir) throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl)).willReturn(jwkSetResource(key));
+        final String missingSnapshot = tempDir.resolve("missing.json").toString();
+
+        // WHEN
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, missingSnapshot);
+        final List<JWK> keys = underTest.get(selectorFor(key), null);
+
+        // THEN
+        assertThat(keys).extracting(JWK::getKeyID).containsExactly(key.getKeyID());
+    }
+
+    @Test
+    void shouldFailWhenNoKeySetCanBeFetched() throws Exception {
+
+        // GIVEN
+        given(resourceRetriever.retrieveResource(jwkSetUrl)).willThrow(new IOException("IDAM unavailable"));
+        final RefreshingJwkSource underTest =
+            new RefreshingJwkSource(jwkSetUrl, resourceRetriever, MIN_REFETCH_INTERVAL, null);
+
+        // WHEN / THEN
+        assertThrows(KeySourceException.class, () -> underTest.get(selectorFor(key), null));
+    }
+
+    private static JWKSelector selectorFor(final RSAKey rsaKey) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(rsaKey.getKeyID()).build());
+    }
+
+    private static Resource jwkSetResource(final RSAKey... rsaKeys) {
+        final List<JWK> publicKeys = List.of(rsaKeys).stream().map(RSAKey::toPublicJWK).map(JWK.class::cast).toList();
+        return new Resource(new JWKSet(publicKeys).toString(), "application/json");
+    }
+}
@@ -2,6 +2,7 @@ package uk.gov.hmcts.reform.translate.security;
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
 import org.assertj.core.util.Lists;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,20 +15,25 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import uk.gov.hmcts.reform.authorisation.generators.AuthTokenGenerator;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.translate.ApplicationParams;
 import uk.gov.hmcts.reform.translate.security.idam.IdamRepository;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -39,6 +45,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @DisplayName("SecurityUtils")
 @ExtendWith(MockitoExtension.class)
@@ -193,6 +202,44 @@ class SecurityUtilsTest {
         }
     }
 
+    @Nested
+    @DisplayName("Request-scoped user info tests")
+    class RequestUserInfoTests {
+        @BeforeEach
+        void prepare() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+            doReturn(JWT).when(authentication).getPrincipal();
+            doReturn(authentication).when(securityContext).getAuthentication();
+        }
+
+        @AfterEach
+        void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        @DisplayName("Look up user info once per request")
+        void shouldLookUpUserInfoOncePerRequest() {
+            doReturn(USER_INFO).when(idamRepository).getUserInfo(USER_JWT);
+
+            assertAll(
+                () -> assertTrue(underTest.hasAnyOfTheseRoles(List.of("manage-translations"))),
+                () -> assertTrue(underTest.hasRole("manage-translations")),
+                () -> assertEquals(USER_ID, underTest.getUserInfo().getUid())
+            );
+            verify(idamRepository, times(1)).getUserInfo(USER_JWT);
+        }
+
+        @Test
+        @DisplayName("Use user info already resolved for the request")
+        void shouldNotLookUpUserInfoAlreadyResolvedForRequest() {
+            SecurityUtils.setRequestUserInfo(USER_INFO);
+
+            assertTrue(underTest.hasRole("myRole"));
+            verify(idamRepository, never()).getUserInfo(USER_JWT);
+        }
+    }
+
     @Nested
     @DisplayName("User Token tests")
     class UserTokenTests {
@@ -227,7 +274,7 @@ class SecurityUtilsTest {
         @MethodSource("provideArguments")
         @DisplayName("Return true if param is in the list otherwise false")
         void shouldTest(final List<String> input, final boolean expected) {
-            doReturn(input).when(applicationParams).getPutDictionaryS2sServicesBypassRoleAuthCheck();
+            doReturn(Set.copyOf(input)).when(applicationParams).getPutDictionaryBypassRoleAuthCheckServices();
 
             final Boolean result = underTest.isBypassAuthCheck("ccd_definition");
 
@@ -262,4 +309,51 @@ class SecurityUtilsTest {
 
         assertEquals("The token was expected to have 3 parts, but got 0.", jwtDecodeException.getMessage());
     }
+
+    @Nested
+    @DisplayName("Request-scoped service token tests")
+    class RequestServiceTokenTests {
+        private final MockHttpServletRequest request = new MockHttpServletRequest();
+
+        @BeforeEach
+        void prepare() {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @AfterEach
+        void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        @DisplayName("Keep the decoded service token for the rest of the request")
+        void shouldKeepServiceTokenForRequest() {
+            final ServiceToken serviceToken = underTest.getServiceToken(SERVICE_JWT);
+
+            assertAll(
+                () -> assertEquals(CLIENT_ID, serviceToken.serviceName()),
+                () -> assertEquals(Instant.ofEpochSecond(1653936480), serviceToken.expiresAt()),
+                () -> assertEquals(new SecurityUtils.DecodedServiceToken(SERVICE_JWT, serviceToken),
+                                   request.getAttribute(SecurityUtils.SERVICE_TOKEN_ATTRIBUTE))
+            );
+        }
+
+        @Test
+        @DisplayName("Use the service token already decoded for the request")
+        void shouldNotDecodeServiceTokenAlreadyDecodedForRequest() {
+            request.setAttribute(SecurityUtils.SERVICE_TOKEN_ATTRIBUTE,
+                                 new SecurityUtils.DecodedServiceToken(SERVICE_JWT, new ServiceToken("decoded", null)));
+
+            assertEquals("decoded", underTest.getServiceNameFromS2SToken("Bearer " + SERVICE_JWT));
+        }
+
+        @Test
+        @DisplayName("Decode a different service token than the one already decoded for the request")
+        void shouldDecodeServiceTokenOtherThanTheOneDecodedForRequest() {
+            request.setAttribute(SecurityUtils.SERVICE_TOKEN_ATTRIBUTE,
+                                 new SecurityUtils.DecodedServiceToken("other", new ServiceToken("other", null)));
+
+            assertEquals(CLIENT_ID, underTest.getServiceNameFromS2SToken(SERVICE_JWT));
+        }
+    }
 }
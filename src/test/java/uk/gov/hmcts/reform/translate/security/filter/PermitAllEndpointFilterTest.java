@@ -5,17 +5,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
 import uk.gov.hmcts.reform.translate.controllers.ControllerConstants;
 import uk.gov.hmcts.reform.translate.helper.HttpMethodEnum;
 import uk.gov.hmcts.reform.translate.security.HttpServletRequestWithoutAuthenticationHeader;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
 
+import java.util.Set;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -31,7 +32,7 @@ import static org.mockito.Mockito.verifyNoInteractions;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.SERVICE_AUTHORIZATION;
 
 @ExtendWith(MockitoExtension.class)
-class PutDictionaryEndpointFilterTest {
+class PermitAllEndpointFilterTest {
     private static final String SERVICE_JWT = "eyJhbGciOiJIUzUxMiJ9";
     private static final String XUI_WEBAPP = "xui_webapp";
     private static final String CCD_DEFINITION = "ccd_definition";
@@ -39,8 +40,10 @@ class PutDictionaryEndpointFilterTest {
     @Mock
     private SecurityUtils securityUtils;
 
-    @InjectMocks
-    private PutDictionaryEndpointFilter underTest;
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private PermitAllEndpointFilter underTest;
 
     private final HttpServletRequest request = mock(HttpServletRequest.class);
     private final HttpServletResponse response = mock(HttpServletResponse.class);
@@ -50,6 +53,61 @@ class PutDictionaryEndpointFilterTest {
     @BeforeEach
     void setUp() {
         SecurityContextHolder.setContext(securityContext);
+        doReturn(Set.of(CCD_DEFINITION)).when(applicationParams).getPutDictionaryBypassRoleAuthCheckServices();
+        underTest = new PermitAllEndpointFilter(securityUtils, applicationParams);
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = HttpMethodEnum.class,
+        names = {"POST"},
+        mode = EnumSource.Mode.EXCLUDE)
+    void testShouldPerformAuthenticationWhenNotPostTranslateCyEndpoint(final HttpMethodEnum param) throws Exception {
+        doReturn(param.name()).when(request).getMethod();
+        doReturn(ControllerConstants.TRANSLATIONS_URL).when(request).getServletPath();
+        doNothing().when(filterChain).doFilter(request, response);
+
+        underTest.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(securityContext);
+    }
+
+    @Test
+    void testShouldPerformAuthenticationWhenNotPostTranslateCyEndpoint() throws Exception {
+        doReturn("POST").when(request).getMethod();
+        doReturn(ControllerConstants.DICTIONARY_URL).when(request).getServletPath();
+        doNothing().when(filterChain).doFilter(request, response);
+
+        underTest.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(securityContext);
+    }
+
+    @Test
+    void testShouldSkipAuthenticationWhenPostTranslateCyEndpoint() throws Exception {
+        doReturn("POST").when(request).getMethod();
+        doReturn(ControllerConstants.TRANSLATIONS_URL).when(request).getServletPath();
+        doNothing().when(filterChain).doFilter(any(HttpServletRequestWithoutAuthenticationHeader.class), eq(response));
+
+        underTest.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(any(HttpServletRequestWithoutAuthenticationHeader.class), eq(response));
+        verify(securityContext).setAuthentication(any(AbstractAuthenticationToken.class));
+        verifyNoInteractions(securityUtils);
+    }
+
+    @Test
+    void testShouldSkipAuthenticationWhenLowercasePostTranslateCyEndpoint() throws Exception {
+        doReturn("post").when(request).getMethod();
+        doReturn(ControllerConstants.TRANSLATIONS_URL).when(request).getServletPath();
+        doNothing().when(filterChain).doFilter(any(HttpServletRequestWithoutAuthenticationHeader.class), eq(response));
+
+        underTest.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(any(HttpServletRequestWithoutAuthenticationHeader.class), eq(response));
+        verify(securityContext).setAuthentication(any(AbstractAuthenticationToken.class));
+        verifyNoInteractions(securityUtils);
     }
 
     @ParameterizedTest
@@ -114,4 +172,18 @@ class PutDictionaryEndpointFilterTest {
         verify(securityUtils).isBypassAuthCheck(CCD_DEFINITION);
         verify(securityContext).setAuthentication(any(AbstractAuthenticationToken.class));
     }
+
+    @Test
+    void testShouldNotCheckServiceWhenNoServiceBypassesRoleCheck() throws Exception {
+        doReturn(Set.of("")).when(applicationParams).getPutDictionaryBypassRoleAuthCheckServices();
+        underTest = new PermitAllEndpointFilter(securityUtils, applicationParams);
+        doReturn("PUT").when(request).getMethod();
+        doNothing().when(filterChain).doFilter(request, response);
+
+        underTest.doFilterInternal(request, response, filterChain);
+
+        verify(filterChain).doFilter(request, response);
+        verifyNoInteractions(securityUtils);
+        verifyNoInteractions(securityContext);
+    }
 }
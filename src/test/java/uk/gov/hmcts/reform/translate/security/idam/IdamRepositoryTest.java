@@ -0,0 +1,132 @@
+package uk.gov.hmcts.reform.translate.security.idam;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.idam.client.IdamClient;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("IdamRepository")
+@ExtendWith(MockitoExtension.class)
+class IdamRepositoryTest {
+
+    private static final String USER_JWT = "8gf364fg367f67";
+    private static final int CONCURRENT_LOOKUPS = 5;
+    private static final UserInfo USER_INFO = UserInfo.builder()
+        .uid("123")
+        .roles(List.of("manage-translations"))
+        .build();
+
+    @Mock
+    private IdamClient idamClient;
+
+    @Mock
+    private UserInfoCache userInfoCache;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+    private IdamRepository underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new IdamRepository(idamClient, userInfoCache, circuitBreakerRegistry);
+        // NB: a cache that always misses
+        given(userInfoCache.get(anyString(), any())).willAnswer(
+            invocation -> invocation.<Function<String, UserInfo>>getArgument(1).apply(invocation.getArgument(0))
+        );
+    }
+
+    @Test
+    void shouldShareOneIdamCallBetweenConcurrentLookups() throws Exception {
+
+        // GIVEN
+        final CountDownLatch idamCalled = new CountDownLatch(1);
+        final CountDownLatch idamResponds = new CountDownLatch(1);
+        given(idamClient.getUserInfo("Bearer " + USER_JWT)).willAnswer(invocation -> {
+            idamCalled.countDown();
+            idamResponds.await(10, TimeUnit.SECONDS);
+            return USER_INFO;
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(CONCURRENT_LOOKUPS);
+
+        try {
+            // WHEN
+            final Future<UserInfo> leader = executorService.submit(() -> underTest.getUserInfo(USER_JWT));
+            assertThat(idamCalled.await(10, TimeUnit.SECONDS)).isTrue();
+            final List<Future<UserInfo>> followers = IntStream.range(1, CONCURRENT_LOOKUPS)
+                .mapToObj(i -> executorService.submit(() -> underTest.getUserInfo(USER_JWT)))
+                .toList();
+            // NB: give the followers time to join the lookup in progress
+            Thread.sleep(200);
+            idamResponds.countDown();
+
+            // THEN
+            assertEquals(USER_INFO, leader.get(10, TimeUnit.SECONDS));
+            for (Future<UserInfo> follower : followers) {
+                assertEquals(USER_INFO, follower.get(10, TimeUnit.SECONDS));
+            }
+            verify(idamClient, times(1)).getUserInfo("Bearer " + USER_JWT);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldLookUpAgainAfterFailedLookup() {
+
+        // GIVEN
+        given(idamClient.getUserInfo("Bearer " + USER_JWT))
+            .willThrow(new IllegalStateException("IDAM unavailable"))
+            .willReturn(USER_INFO);
+
+        // WHEN
+        final IllegalStateException exception =
+            assertThrows(IllegalStateException.class, () -> underTest.getUserInfo(USER_JWT));
+        final UserInfo userInfo = underTest.getUserInfo(USER_JWT);
+
+        // THEN
+        assertEquals("IDAM unavailable", exception.getMessage());
+        assertEquals(USER_INFO, userInfo);
+        verify(idamClient, times(2)).getUserInfo("Bearer " + USER_JWT);
+    }
+
+    @Test
+    void shouldNotCallIdamWhileCircuitIsOpen() {
+
+        // GIVEN
+        circuitBreakerRegistry.circuitBreaker(IdamRepository.IDAM_CIRCUIT_BREAKER).transitionToOpenState();
+
+        // WHEN
+        final IdamUnavailableException exception =
+            assertThrows(IdamUnavailableException.class, () -> underTest.getUserInfo(USER_JWT));
+
+        // THEN
+        assertThat(exception).hasCauseInstanceOf(CallNotPermittedException.class);
+        verify(idamClient, never()).getUserInfo(anyString());
+    }
+}
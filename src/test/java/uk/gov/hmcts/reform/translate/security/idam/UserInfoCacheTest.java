@@ -0,0 +1,215 @@
+package uk.gov.hmcts.reform.translate.security.idam;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.idam.client.models.UserInfo;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.errorhandling.IdamUnavailableException;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("UserInfoCache")
+@ExtendWith(MockitoExtension.class)
+class UserInfoCacheTest {
+
+    private static final UserInfo USER_INFO = UserInfo.builder()
+        .uid("123")
+        .roles(List.of("manage-translations"))
+        .build();
+    private static final UserInfo REFRESHED_USER_INFO = UserInfo.builder()
+        .uid("123")
+        .roles(List.of("load-translations"))
+        .build();
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Mock
+    private Function<String, UserInfo> loader;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        given(applicationParams.getUserInfoCacheMaximumSize()).willReturn(100L);
+        given(applicationParams.getUserInfoCacheTimeToLiveSeconds()).willReturn(1800L);
+        given(applicationParams.getUserInfoCacheGracePeriodSeconds()).willReturn(600L);
+    }
+
+    @Test
+    void shouldLoadUserInfoOnceWhileTokenIsValid() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(loader.apply(token)).willReturn(USER_INFO);
+
+        // WHEN
+        final UserInfo first = underTest.get(token, loader);
+        final UserInfo second = underTest.get(token, loader);
+
+        // THEN
+        assertThat(first).isEqualTo(USER_INFO);
+        assertThat(second).isEqualTo(USER_INFO);
+        verify(loader, times(1)).apply(token);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserInfoCache.CACHE_NAME).tag("result", "hit")
+                       .functionCounter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", UserInfoCache.CACHE_NAME).tag("result", "miss")
+                       .functionCounter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotServeUserInfoBeyondTokenExpiry() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+        given(loader.apply(token)).willReturn(USER_INFO);
+
+        // WHEN
+        underTest.get(token, loader);
+        underTest.get(token, loader);
+
+        // THEN
+        verify(loader, times(2)).apply(token);
+    }
+
+    @Test
+    void shouldNotCacheMissingUserInfo() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+
+        // WHEN
+        final UserInfo first = underTest.get(token, loader);
+        final UserInfo second = underTest.get(token, loader);
+
+        // THEN
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        verify(loader, times(2)).apply(token);
+    }
+
+    @Test
+    void shouldRefreshUserInfoAheadOfExpiry() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(0L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(loader.apply(token)).willReturn(USER_INFO, REFRESHED_USER_INFO);
+
+        // WHEN
+        final UserInfo loaded = underTest.get(token, loader);
+        final UserInfo servedWhileRefreshing = underTest.get(token, loader);
+        final UserInfo refreshed = underTest.get(token, loader);
+
+        // THEN
+        assertThat(loaded).isEqualTo(USER_INFO);
+        assertThat(servedWhileRefreshing).isEqualTo(USER_INFO);
+        assertThat(refreshed).isEqualTo(REFRESHED_USER_INFO);
+    }
+
+    @Test
+    void shouldKeepCachedUserInfoWhenRefreshFails() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(0L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(loader.apply(token)).willReturn(USER_INFO).willThrow(new IllegalStateException("IDAM unavailable"));
+
+        // WHEN
+        underTest.get(token, loader);
+        underTest.get(token, loader);
+        final UserInfo afterFailedRefresh = underTest.get(token, loader);
+
+        // THEN
+        assertThat(afterFailedRefresh).isEqualTo(USER_INFO);
+    }
+
+    @Test
+    void shouldServeLastKnownGoodUserInfoWhileIdamIsUnavailable() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheTimeToLiveSeconds()).willReturn(0L);
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(loader.apply(token))
+            .willReturn(USER_INFO)
+            .willThrow(new IdamUnavailableException(new IllegalStateException("IDAM unavailable")));
+
+        // WHEN
+        underTest.get(token, loader);
+        final UserInfo lastKnownGood = underTest.get(token, loader);
+
+        // THEN
+        assertThat(lastKnownGood).isEqualTo(USER_INFO);
+        verify(loader, times(2)).apply(token);
+        assertThat(meterRegistry.get(UserInfoCache.LAST_KNOWN_GOOD_METRIC).counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldNotServeLastKnownGoodUserInfoBeyondTokenExpiry() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().minus(1, ChronoUnit.MINUTES));
+        given(loader.apply(token))
+            .willReturn(USER_INFO)
+            .willThrow(new IdamUnavailableException(new IllegalStateException("IDAM unavailable")));
+
+        // WHEN
+        underTest.get(token, loader);
+
+        // THEN
+        assertThrows(IdamUnavailableException.class, () -> underTest.get(token, loader));
+    }
+
+    @Test
+    void shouldNotServeLastKnownGoodUserInfoForOtherFailures() {
+
+        // GIVEN
+        given(applicationParams.getUserInfoCacheTimeToLiveSeconds()).willReturn(0L);
+        given(applicationParams.getUserInfoCacheRefreshAfterSeconds()).willReturn(300L);
+        final UserInfoCache underTest = new UserInfoCache(applicationParams, meterRegistry, Runnable::run);
+        final String token = tokenExpiringAt(Instant.now().plus(1, ChronoUnit.HOURS));
+        given(loader.apply(token)).willReturn(USER_INFO).willThrow(new IllegalStateException("Unauthorized"));
+
+        // WHEN
+        underTest.get(token, loader);
+
+        // THEN
+        assertThrows(IllegalStateException.class, () -> underTest.get(token, loader));
+    }
+
+    private static String tokenExpiringAt(final Instant expiresAt) {
+        return JWT.create()
+            .withSubject("user@hmcts.net")
+            .withExpiresAt(expiresAt)
+            .sign(Algorithm.none());
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.ALL_PHRASES;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.CHANNEL;
+
+@DisplayName("DictionaryChangeListener")
+@ExtendWith(MockitoExtension.class)
+class DictionaryChangeListenerTest {
+
+    private static final int POLL_TIMEOUT_MILLIS = 100;
+
+    @Mock
+    private DataSourceProperties dataSourceProperties;
+
+    @Mock
+    private TranslationSnapshotCache translationSnapshotCache;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    private DictionaryChangeListener underTest;
+
+    @BeforeEach
+    void setUp() {
+        given(applicationParams.getDictionaryChangesListenerPollTimeoutMillis()).willReturn(POLL_TIMEOUT_MILLIS);
+        underTest = new DictionaryChangeListener(
+            dataSourceProperties, translationSnapshotCache, applicationParams, new ObjectMapper()
+        );
+    }
+
+    @Test
+    void shouldRefreshTheNotifiedPhrases() throws SQLException {
+
+        // GIVEN
+        givenConnectionReturnsNotifications(notification("[\"English phrase\"]"));
+
+        // WHEN
+        underTest.listen(connection);
+
+        // THEN
+        verify(statement).execute("LISTEN " + CHANNEL);
+        verify(translationSnapshotCache).refresh(Set.of("English phrase"));
+    }
+
+    @Test
+    void shouldReloadEverythingWhenNotifiedOfAllPhrases() throws SQLException {
+
+        // GIVEN
+        givenConnectionReturnsNotifications(notification(ALL_PHRASES));
+
+        // WHEN
+        underTest.listen(connection);
+
+        // THEN
+        // NB: once on listening, once on the notification
+        verify(translationSnapshotCache, times(2)).reload();
+        verify(translationSnapshotCache, never()).refresh(anyCollection());
+    }
+
+    @Test
+    void shouldReloadEverythingOnceListening() throws SQLException {
+
+        // GIVEN
+        givenConnectionReturnsNotifications();
+
+        // WHEN
+        underTest.listen(connection);
+
+        // THEN
+        final InOrder inOrder = inOrder(statement, translationSnapshotCache);
+        inOrder.verify(statement).execute("LISTEN " + CHANNEL);
+        inOrder.verify(translationSnapshotCache).reload();
+    }
+
+    @Test
+    void shouldCheckTheConnectionWhenAPollTimesOut() throws SQLException {
+
+        // GIVEN
+        givenConnectionReturnsNotifications();
+
+        // WHEN
+        underTest.listen(connection);
+
+        // THEN
+        verify(connection).setNetworkTimeout(any(), eq(POLL_TIMEOUT_MILLIS));
+        verify(statement).execute("SELECT 1");
+    }
+
+    @Test
+    void shouldStopListeningWhenTheConnectionCheckFails() throws SQLException {
+
+        // GIVEN
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(statement.execute("SELECT 1")).willThrow(new SQLException("Read timed out"));
+
+        // WHEN
+        final SQLException exception = assertThrows(SQLException.class, () -> underTest.listen(connection));
+
+        // THEN
+        assertThat(exception).hasMessage("Read timed out");
+    }
+
+    @Test
+    void shouldIgnoreUnrecognisedNotifications() {
+
+        // WHEN
+        underTest.onNotification("not a version");
+
+        // THEN
+        verifyNoInteractions(translationSnapshotCache);
+    }
+
+    private void givenConnectionReturnsNotifications(final PGNotification... notifications) throws SQLException {
+        given(connection.createStatement()).willReturn(statement);
+        given(connection.unwrap(PGConnection.class)).willReturn(pgConnection);
+        given(pgConnection.getNotifications(anyInt()))
+            .willReturn(notifications)
+            .willAnswer(invocation -> {
+                // stop listening once the notifications have been handled
+                underTest.stop();
+                return null;
+            });
+    }
+
+    private static PGNotification notification(final String payload) {
+        final PGNotification notification = mock(PGNotification.class);
+        given(notification.getParameter()).willReturn(payload);
+        return notification;
+    }
+}
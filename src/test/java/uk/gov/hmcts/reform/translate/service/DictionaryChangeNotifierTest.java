@@ -0,0 +1,68 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.ALL_PHRASES;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.CHANNEL;
+import static uk.gov.hmcts.reform.translate.service.DictionaryChangeNotifier.MAX_PAYLOAD_BYTES;
+
+@DisplayName("DictionaryChangeNotifier")
+@ExtendWith(MockitoExtension.class)
+class DictionaryChangeNotifierTest {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DictionaryChangeNotifier underTest;
+
+    @BeforeEach
+    void setUp() {
+        underTest = new DictionaryChangeNotifier(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void shouldNotifyTheChangedPhrases() {
+
+        // WHEN
+        underTest.onDictionaryChanged(DictionaryChangedEvent.forPhrases(Set.of("English phrase")));
+
+        // THEN
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, "[\"English phrase\"]");
+    }
+
+    @Test
+    void shouldNotifyAllPhrases() {
+
+        // WHEN
+        underTest.onDictionaryChanged(DictionaryChangedEvent.forAllPhrases());
+
+        // THEN
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, ALL_PHRASES);
+    }
+
+    @Test
+    void shouldNotifyAllPhrasesWhenThePhrasesDoNotFit() {
+
+        // GIVEN
+        // NB: two bytes per character in UTF-8
+        final String englishPhrase = "\u00e9".repeat(MAX_PAYLOAD_BYTES / 2);
+
+        // WHEN
+        underTest.onDictionaryChanged(DictionaryChangedEvent.forPhrases(Set.of(englishPhrase)));
+
+        // THEN
+        verify(jdbcTemplate).queryForList(NOTIFY_SQL, CHANNEL, ALL_PHRASES);
+    }
+}
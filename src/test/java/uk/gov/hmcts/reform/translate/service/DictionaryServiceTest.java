@@ -1,5 +1,6 @@
 package uk.gov.hmcts.reform.translate.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,27 +9,44 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import uk.gov.hmcts.reform.idam.client.models.UserInfo;
 import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntryView;
+import uk.gov.hmcts.reform.translate.data.DictionarySimilarityMatchView;
+import uk.gov.hmcts.reform.translate.data.DictionaryTranslationView;
 import uk.gov.hmcts.reform.translate.data.TranslationUploadEntity;
 import uk.gov.hmcts.reform.translate.errorhandling.BadRequestException;
 import uk.gov.hmcts.reform.translate.errorhandling.RequestErrorException;
 import uk.gov.hmcts.reform.translate.errorhandling.RoleMissingException;
 import uk.gov.hmcts.reform.translate.helper.DictionaryMapper;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
+import uk.gov.hmcts.reform.translate.model.DictionaryEntry;
+import uk.gov.hmcts.reform.translate.model.DictionaryPage;
+import uk.gov.hmcts.reform.translate.model.DictionarySearchResults;
+import uk.gov.hmcts.reform.translate.model.SearchMode;
 import uk.gov.hmcts.reform.translate.model.Translation;
+import uk.gov.hmcts.reform.translate.repository.DictionaryEntryFilter;
+import uk.gov.hmcts.reform.translate.repository.DictionaryPageRepository;
 import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
 import uk.gov.hmcts.reform.translate.repository.TranslationUploadRepository;
+import uk.gov.hmcts.reform.translate.repository.TranslationVersionBarrier;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -36,16 +54,24 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_CURSOR;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_PAGE_SIZE;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SCHEMA;
+import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.BAD_SEARCH_QUERY;
 import static uk.gov.hmcts.reform.translate.errorhandling.BadRequestError.WELSH_NOT_ALLOWED;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.LOAD_TRANSLATIONS_ROLE;
 import static uk.gov.hmcts.reform.translate.security.SecurityUtils.MANAGE_TRANSLATIONS_ROLE;
@@ -66,15 +92,33 @@ public class DictionaryServiceTest {
     @Mock
     TranslationUploadRepository translationUploadRepository;
 
-    @Mock
-    List<DictionaryEntity> repositoryResults;
-
     @Mock
     DictionaryMapper dictionaryMapper;
 
     @Mock
     SecurityUtils securityUtils;
 
+    @Mock
+    UntranslatedPhraseRecorder untranslatedPhraseRecorder;
+
+    @Mock
+    TranslationSnapshotCache translationSnapshotCache;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    TranslationVersionBarrier translationVersionBarrier;
+
+    @Mock
+    DictionaryPageRepository dictionaryPageRepository;
+
+    @Mock
+    PhraseUsageRecorder phraseUsageRecorder;
+
     @InjectMocks
     DictionaryService dictionaryService;
 
@@ -90,83 +134,78 @@ public class DictionaryServiceTest {
         }
 
         @Test
-        void shouldReturnDictionaryContents() {
-            Map<String, Translation> expectedMap = new HashMap<>();
-
-            IntStream.range(1, 3).forEach(i -> expectedMap.put("english" + i, new Translation("translated" + i)));
-
-            var dictionaryEntities = expectedMap.entrySet().stream()
-                .map(es -> createDictionaryEntity(
-                    es.getKey(),
-                    es.getValue().getTranslation()
-                ))
-                .toArray(DictionaryEntity[]::new);
+        void shouldWriteDictionaryContents() throws IOException {
+            given(dictionaryRepository.streamAllTranslations()).willReturn(Stream.of(
+                new DictionaryTranslationView("english1", "translated1", null, null, null),
+                new DictionaryTranslationView("english2", "translated2", true, "yes2", "no2")
+            ));
 
-            var spliterator = Arrays.spliterator(dictionaryEntities);
-            given(repositoryResults.spliterator()).willReturn(spliterator);
-            given(dictionaryRepository.findAll()).willReturn(repositoryResults);
+            final Dictionary dictionary = writeDictionaryContents();
 
-            assertTrue(dictionaryService.getDictionaryContents().entrySet()
-                           .containsAll(expectedMap.entrySet()));
+            assertThat(dictionary.getTranslations()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "english1", new Translation("translated1"),
+                "english2", new Translation("translated2", true, "yes2", "no2")
+            ));
         }
 
         @Test
-        void shouldReturnDictionaryContentsTranslationPhraseIsNull() {
-            Map<String, Translation> expectedMap = new HashMap<>();
-
-            IntStream.range(1, 3).forEach(i -> expectedMap.put("english" + i, new Translation("")));
-
-            var dictionaryEntities = expectedMap.entrySet().stream()
-                .map(es -> createDictionaryEntity(
-                    es.getKey(),
-                    es.getValue().getTranslation()
-                ))
-                .toArray(DictionaryEntity[]::new);
+        void shouldWriteDictionaryContentsTranslationPhraseIsNull() throws IOException {
+            given(dictionaryRepository.streamAllTranslations()).willReturn(Stream.of(
+                new DictionaryTranslationView("english1", null, null, null, null),
+                new DictionaryTranslationView("english2", null, true, null, null)
+            ));
 
-            var spliterator = Arrays.spliterator(dictionaryEntities);
-            given(repositoryResults.spliterator()).willReturn(spliterator);
-            given(dictionaryRepository.findAll()).willReturn(repositoryResults);
+            final Dictionary dictionary = writeDictionaryContents();
 
-            Map<String, Translation> dictionaryContents = dictionaryService.getDictionaryContents();
-            assertTrue(dictionaryContents.keySet()
-                           .containsAll(expectedMap.keySet()));
-            assertTrue(dictionaryContents.values().stream().map(Translation::getTranslation).toList()
-                           .containsAll(List.of("", "", "")));
+            assertThat(dictionary.getTranslations()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "english1", new Translation(""),
+                "english2", new Translation("", true, "", "")
+            ));
         }
 
         @Test
-        void shouldThrowExceptionWhenDictionaryContainsDuplicateEnglishPhrases() {
-            final var englishPhrase = "English phrase";
-            final var translatedPhrase = "Translated phrase";
+        void shouldWriteDictionaryContentsSinceVersion() throws IOException {
+            given(translationVersionBarrier.getCommittedHighWaterMark()).willReturn(7L);
+            given(dictionaryRepository.streamAllTranslationsSince(3L)).willReturn(Stream.of(
+                new DictionaryTranslationView("english1", "translated1", null, null, null)
+            ));
 
-            DictionaryEntity[] dictionaryEntities = {createDictionaryEntity(englishPhrase, translatedPhrase),
-                createDictionaryEntity(englishPhrase, translatedPhrase),
-                createDictionaryEntity(englishPhrase, translatedPhrase)};
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            dictionaryService.writeDictionaryContents(outputStream, 3L);
+            final Dictionary dictionary = objectMapper.readValue(outputStream.toByteArray(), Dictionary.class);
 
-            var spliterator = Arrays.spliterator(dictionaryEntities);
-            given(repositoryResults.spliterator()).willReturn(spliterator);
-            given(dictionaryRepository.findAll()).willReturn(repositoryResults);
+            assertThat(dictionary.getTranslations())
+                .containsExactlyEntriesOf(Map.of("english1", new Translation("translated1")));
+            assertEquals(7L, dictionary.getVersion());
+            verify(dictionaryRepository, never()).streamAllTranslations();
+        }
 
-            IllegalStateException illegalStateException = assertThrows(
-                IllegalStateException.class,
-                () -> dictionaryService.getDictionaryContents()
-            );
+        @Test
+        void shouldWriteEmptyDictionaryContents() throws IOException {
+            given(dictionaryRepository.streamAllTranslations()).willReturn(Stream.empty());
 
-            assertTrue(illegalStateException.getMessage().startsWith(
-                String.format("Duplicate key %s (attempted merging values", englishPhrase)
-            ));
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            dictionaryService.writeDictionaryContents(outputStream, null);
+
+            assertEquals("{\"translations\":{},\"version\":0}", outputStream.toString(StandardCharsets.UTF_8));
         }
 
         @Test
-        void shouldReturnEmptyDictionaryContents() {
-            given(dictionaryRepository.findAll()).willReturn(repositoryResults);
-            assertTrue(dictionaryService.getDictionaryContents().isEmpty());
+        void shouldCloseDictionaryStreamOnceWritten() throws IOException {
+            final AtomicBoolean closed = new AtomicBoolean();
+            given(dictionaryRepository.streamAllTranslations())
+                .willReturn(Stream.<DictionaryTranslationView>empty().onClose(() -> closed.set(true)));
+
+            dictionaryService.writeDictionaryContents(new ByteArrayOutputStream(), null);
+
+            assertTrue(closed.get());
         }
 
         @Test
         void shouldThrowExceptionWhenReturningDictionaryContentsNoUserInfoAvailable() {
             Mockito.reset(securityUtils);
-            assertThrows(RoleMissingException.class, () -> dictionaryService.getDictionaryContents());
+            assertThrows(RoleMissingException.class,
+                () -> dictionaryService.writeDictionaryContents(new ByteArrayOutputStream(), null));
         }
 
         @Test
@@ -174,7 +213,7 @@ public class DictionaryServiceTest {
             given(securityUtils.hasRole(any())).willReturn(false);
             RoleMissingException roleMissingException = assertThrows(
                 RoleMissingException.class,
-                () -> dictionaryService.getDictionaryContents()
+                () -> dictionaryService.writeDictionaryContents(new ByteArrayOutputStream(), null)
             );
             assertEquals(
                 String.format(RoleMissingException.ERROR_MESSAGE, MANAGE_TRANSLATIONS_ROLE),
@@ -182,56 +221,79 @@ public class DictionaryServiceTest {
             );
         }
 
+        private Dictionary writeDictionaryContents() throws IOException {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            dictionaryService.writeDictionaryContents(outputStream, null);
+            return objectMapper.readValue(outputStream.toByteArray(), Dictionary.class);
+        }
     }
 
     @Nested
     @DisplayName("GetTranslation")
     class GetTranslations {
 
+        @Test
+        void testShouldTranslatePhraseFromSnapshotWithoutQueryingTheDictionary() {
+            given(translationSnapshotCache.get(THE_QUICK_FOX_PHRASE))
+                .willReturn(Optional.of(new Translation("translated")));
+
+            final Map<String, Translation> translations =
+                dictionaryService.getTranslations(Set.of(THE_QUICK_FOX_PHRASE));
+
+            assertThat(translations.get(THE_QUICK_FOX_PHRASE).getTranslation())
+                .isEqualTo("translated");
+
+            verifyNoInteractions(dictionaryRepository, untranslatedPhraseRecorder);
+            verify(phraseUsageRecorder).record(Set.of(THE_QUICK_FOX_PHRASE));
+        }
+
         @Test
         void testShouldTranslatePhrase() {
             final DictionaryEntity dictionaryEntity = createDictionaryEntity(THE_QUICK_FOX_PHRASE, "translated");
-            doReturn(Optional.of(dictionaryEntity)).when(dictionaryRepository).findByEnglishPhrase(anyString());
+            doReturn(List.of(dictionaryEntity)).when(dictionaryRepository).findAllByEnglishPhraseIn(anySet());
 
-            final Translation translation = dictionaryService.getTranslation(THE_QUICK_FOX_PHRASE);
+            final Map<String, Translation> translations =
+                dictionaryService.getTranslations(Set.of(THE_QUICK_FOX_PHRASE));
 
-            assertThat(translation.getTranslation())
+            assertThat(translations.get(THE_QUICK_FOX_PHRASE).getTranslation())
                 .isNotNull()
                 .isEqualTo("translated");
 
-            verify(dictionaryRepository).findByEnglishPhrase(THE_QUICK_FOX_PHRASE);
+            verify(dictionaryRepository).findAllByEnglishPhraseIn(Set.of(THE_QUICK_FOX_PHRASE));
+            verify(translationSnapshotCache, never()).merge(anyMap());
             verifyNoMoreInteractions(dictionaryRepository);
         }
 
         @Test
         void testShouldTranslatePhraseWhenTranslatedPhraseIsNull() {
             final DictionaryEntity dictionaryEntity = createDictionaryEntity(THE_QUICK_FOX_PHRASE, null);
-            doReturn(Optional.of(dictionaryEntity)).when(dictionaryRepository).findByEnglishPhrase(anyString());
+            doReturn(List.of(dictionaryEntity)).when(dictionaryRepository).findAllByEnglishPhraseIn(anySet());
 
-            final Translation translation = dictionaryService.getTranslation(THE_QUICK_FOX_PHRASE);
+            final Map<String, Translation> translations =
+                dictionaryService.getTranslations(Set.of(THE_QUICK_FOX_PHRASE));
 
-            assertThat(translation.getTranslation())
+            assertThat(translations.get(THE_QUICK_FOX_PHRASE).getTranslation())
                 .isNotNull()
                 .isEqualTo(THE_QUICK_FOX_PHRASE);
 
-            verify(dictionaryRepository).findByEnglishPhrase(THE_QUICK_FOX_PHRASE);
+            verify(dictionaryRepository).findAllByEnglishPhraseIn(Set.of(THE_QUICK_FOX_PHRASE));
             verifyNoMoreInteractions(dictionaryRepository);
         }
 
         @Test
         void testShouldTranslatePhraseWhenEnglishPhraseIsNotInDictionary() {
-            final DictionaryEntity dictionaryEntity = createDictionaryEntity(THE_QUICK_FOX_PHRASE, null);
-            doReturn(Optional.empty()).when(dictionaryRepository).findByEnglishPhrase(anyString());
-            doReturn(dictionaryEntity).when(dictionaryRepository).saveAndFlush(dictionaryEntity);
+            doReturn(List.of()).when(dictionaryRepository).findAllByEnglishPhraseIn(anySet());
 
-            final Translation translation = dictionaryService.getTranslation(THE_QUICK_FOX_PHRASE);
+            final Map<String, Translation> translations =
+                dictionaryService.getTranslations(Set.of(THE_QUICK_FOX_PHRASE));
 
-            assertThat(translation.getTranslation())
+            assertThat(translations.get(THE_QUICK_FOX_PHRASE).getTranslation())
                 .isNotNull()
                 .isEqualTo(THE_QUICK_FOX_PHRASE);
 
-            verify(dictionaryRepository).saveAndFlush(any());
-            verify(dictionaryRepository).findByEnglishPhrase(THE_QUICK_FOX_PHRASE);
+            verify(dictionaryRepository).findAllByEnglishPhraseIn(Set.of(THE_QUICK_FOX_PHRASE));
+            verify(untranslatedPhraseRecorder).record(Set.of(THE_QUICK_FOX_PHRASE));
+            verifyNoMoreInteractions(dictionaryRepository);
         }
 
         @Test
@@ -249,14 +311,6 @@ public class DictionaryServiceTest {
 
             final DictionaryEntity entity1 = createDictionaryEntity(englishPhrase, "Translated English phrase");
             final DictionaryEntity entity2 = createDictionaryEntity(englishPhraseWithNoTranslation, null);
-            final DictionaryEntity entity3 = createDictionaryEntity(englishPhraseNotInDictionary, null);
-
-            doReturn(Optional.of(entity1)).when(dictionaryRepository).findByEnglishPhrase(englishPhrase);
-            doReturn(Optional.of(entity2)).when(dictionaryRepository)
-                .findByEnglishPhrase(englishPhraseWithNoTranslation);
-            doReturn(Optional.empty()).when(dictionaryRepository)
-                .findByEnglishPhrase(englishPhraseNotInDictionary);
-            doReturn(entity3).when(dictionaryRepository).saveAndFlush(entity3);
 
             final Set<String> requestPhrases = Set.of(
                 englishPhrase,
@@ -264,6 +318,8 @@ public class DictionaryServiceTest {
                 englishPhraseNotInDictionary
             );
 
+            doReturn(List.of(entity1, entity2)).when(dictionaryRepository).findAllByEnglishPhraseIn(requestPhrases);
+
             // WHEN
             final Map<String, Translation> actualTranslations = dictionaryService.getTranslations(requestPhrases);
 
@@ -272,19 +328,14 @@ public class DictionaryServiceTest {
                 .isNotEmpty()
                 .containsAllEntriesOf(expectedTranslations);
 
-            verify(dictionaryRepository).findByEnglishPhrase(englishPhrase);
-            verify(dictionaryRepository).findByEnglishPhrase(englishPhraseWithNoTranslation);
-            verify(dictionaryRepository).findByEnglishPhrase(englishPhraseNotInDictionary);
-            verify(dictionaryRepository).saveAndFlush(entity3);
-        }
-
-        @Test
-        @SuppressWarnings("ConstantConditions")
-        void testShouldRaiseExceptionWhenInputPhraseIsNull() {
-            final Throwable thrown = catchThrowable(() -> dictionaryService.getTranslation(null));
-
-            assertThat(thrown)
-                .isInstanceOf(NullPointerException.class);
+            // verify all phrases are looked up in a single query
+            verify(dictionaryRepository, times(1)).findAllByEnglishPhraseIn(requestPhrases);
+            verify(dictionaryRepository, never()).findByEnglishPhrase(anyString());
+            // verify only the missing phrase is recorded, and without writing on the read path
+            verify(untranslatedPhraseRecorder).record(Set.of(englishPhraseNotInDictionary));
+            // verify usage is only counted for the phrases in the dictionary
+            verify(phraseUsageRecorder).record(Set.of(englishPhrase, englishPhraseWithNoTranslation));
+            verifyNoMoreInteractions(dictionaryRepository);
         }
 
         @Test
@@ -309,16 +360,28 @@ public class DictionaryServiceTest {
             given(securityUtils.hasRole(anyString())).willReturn(true);
             given(securityUtils.getUserInfo()).willReturn(getUserInfoWithManageTranslationsRole());
             given(dictionaryMapper.createTranslationUploadEntity(anyString())).willReturn(createUploadEntity());
+            given(translationUploadRepository.save(any())).willAnswer(returnsFirstArg());
+            given(dictionaryMapper.modelToEntityWithTranslationUploadEntity(any(), any()))
+                .willAnswer(invocation -> new DictionaryEntity());
 
             // WHEN
             dictionaryService.putDictionary(dictionaryRequest);
 
             // THEN
-            verify(dictionaryRepository, times(3)).findByEnglishPhrase(any());
+            verify(dictionaryRepository, times(1))
+                .findAllByEnglishPhraseIn(dictionaryRequest.getTranslations().keySet());
+            verify(dictionaryRepository, never()).findByEnglishPhrase(any());
             verify(securityUtils, times(1)).hasRole(anyString());
             verify(dictionaryMapper, times(3)).modelToEntityWithTranslationUploadEntity(any(), any());
-            verify(dictionaryRepository, times(3)).saveAndFlush(any());
-            verify(translationUploadRepository, never()).save(any());
+            verify(dictionaryRepository, times(1))
+                .saveAllAndFlush(argThat(entities -> entities instanceof List<?> list && list.size() == 3));
+            verify(dictionaryRepository, never()).saveAndFlush(any());
+            // verify the upload is saved once for all the phrases, once other readers of its version are held back
+            verify(translationVersionBarrier, times(1)).enterUpload();
+            verify(translationUploadRepository, times(1)).save(any());
+            verify(applicationEventPublisher).publishEvent(
+                DictionaryChangedEvent.forPhrases(dictionaryRequest.getTranslations().keySet())
+            );
         }
 
         @Test
@@ -327,15 +390,19 @@ public class DictionaryServiceTest {
             // GIVEN
             final Dictionary dictionaryRequest = getDictionaryRequestWithoutTranslationPhrases(3);
             given(securityUtils.hasRole(anyString())).willReturn(false);
+            given(dictionaryMapper.modelToEntityWithoutTranslationPhrase(any()))
+                .willAnswer(invocation -> new DictionaryEntity());
 
             // WHEN
             dictionaryService.putDictionary(dictionaryRequest);
 
             // THEN
-            verify(dictionaryRepository, times(3)).findByEnglishPhrase(any());
+            verify(dictionaryRepository, times(1))
+                .findAllByEnglishPhraseIn(dictionaryRequest.getTranslations().keySet());
             verify(securityUtils, times(1)).hasRole(anyString());
             verify(dictionaryMapper, times(3)).modelToEntityWithoutTranslationPhrase(any());
-            verify(dictionaryRepository, times(3)).saveAndFlush(any());
+            verify(dictionaryRepository, times(1))
+                .saveAllAndFlush(argThat(entities -> entities instanceof List<?> list && list.size() == 3));
             // verify no translation uploaded entity created as no translations
             verify(dictionaryMapper, never()).createTranslationUploadEntity(anyString());
             verify(translationUploadRepository, never()).save(any());
@@ -347,23 +414,49 @@ public class DictionaryServiceTest {
             // GIVEN
             final Dictionary dictionaryRequest = getDictionaryRequestWithTranslationPhrases(1);
             final DictionaryEntity dictionaryEntity =
-                createDictionaryEntity("english_1", "translated_1");
+                createDictionaryEntity("english_1", "previously_translated_1");
 
-            given(dictionaryRepository.findByEnglishPhrase(any())).willReturn(Optional.of(dictionaryEntity));
+            given(dictionaryRepository.findAllByEnglishPhraseIn(any())).willReturn(List.of(dictionaryEntity));
             given(securityUtils.hasRole(anyString())).willReturn(true);
             given(securityUtils.getUserInfo()).willReturn(getUserInfoWithManageTranslationsRole());
             given(dictionaryMapper.createTranslationUploadEntity(anyString())).willReturn(createUploadEntity());
+            given(translationUploadRepository.save(any())).willAnswer(returnsFirstArg());
 
             // WHEN
             dictionaryService.putDictionary(dictionaryRequest);
 
             // THEN
-            verify(dictionaryRepository, times(1)).findByEnglishPhrase(any());
+            verify(dictionaryRepository, times(1)).findAllByEnglishPhraseIn(any());
             verify(securityUtils, times(1)).hasRole(anyString());
-            verify(dictionaryRepository, times(1)).saveAndFlush(any());
+            verify(dictionaryRepository, times(1)).saveAllAndFlush(List.of(dictionaryEntity));
+            assertThat(dictionaryEntity.getTranslationPhrase()).isEqualTo("translated_1");
+            verify(translationVersionBarrier, times(1)).enterUpload();
             verify(translationUploadRepository, times(1)).save(any());
         }
 
+        @Test
+        void shouldNotSaveTranslationUploadWhenNoTranslationChanges() {
+
+            // GIVEN
+            final Dictionary dictionaryRequest = getDictionaryRequestWithTranslationPhrases(1);
+            final DictionaryEntity dictionaryEntity =
+                createDictionaryEntity("english_1", "translated_1");
+
+            given(dictionaryRepository.findAllByEnglishPhraseIn(any())).willReturn(List.of(dictionaryEntity));
+            given(securityUtils.hasRole(anyString())).willReturn(true);
+            given(securityUtils.getUserInfo()).willReturn(getUserInfoWithManageTranslationsRole());
+            given(dictionaryMapper.createTranslationUploadEntity(anyString())).willReturn(createUploadEntity());
+
+            // WHEN
+            dictionaryService.putDictionary(dictionaryRequest);
+
+            // THEN
+            // verify nothing to write, and no upload left behind, as the translation is unchanged
+            verify(dictionaryRepository, times(1)).saveAllAndFlush(List.of());
+            verify(translationVersionBarrier, never()).enterUpload();
+            verify(translationUploadRepository, never()).save(any());
+        }
+
         @Test
         void shouldUpdateADictionaryForUserWithoutManageTranslationsRole() {
 
@@ -372,16 +465,17 @@ public class DictionaryServiceTest {
             final DictionaryEntity dictionaryEntity =
                 createDictionaryEntity("english_1", "translated_1");
 
-            given(dictionaryRepository.findByEnglishPhrase(any())).willReturn(Optional.of(dictionaryEntity));
+            given(dictionaryRepository.findAllByEnglishPhraseIn(any())).willReturn(List.of(dictionaryEntity));
             given(securityUtils.hasRole(anyString())).willReturn(false);
 
             // WHEN
             dictionaryService.putDictionary(dictionaryRequest);
 
             // THEN
-            verify(dictionaryRepository, times(1)).findByEnglishPhrase(any());
+            verify(dictionaryRepository, times(1)).findAllByEnglishPhraseIn(any());
             verify(securityUtils, times(1)).hasRole(anyString());
-            verify(dictionaryRepository, times(0)).saveAndFlush(any());
+            // verify nothing to write as the phrase is unchanged
+            verify(dictionaryRepository, times(1)).saveAllAndFlush(List.of());
             // verify no translation uploaded entity created as no translations
             verify(dictionaryMapper, never()).createTranslationUploadEntity(anyString());
             verify(translationUploadRepository, never()).save(any());
@@ -557,6 +651,204 @@ public class DictionaryServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getDictionaryPage")
+    class GetDictionaryPage {
+
+        private final DictionaryEntryFilter untranslated = new DictionaryEntryFilter(false, null, null, null);
+
+        @Test
+        void shouldReturnPageWithNextAfterIdWhenThereAreMoreEntries() {
+
+            // GIVEN
+            given(securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)).willReturn(true);
+            given(dictionaryPageRepository.findPage(untranslated, 10L, 3)).willReturn(List.of(
+                untranslatedEntry(11L), untranslatedEntry(15L), untranslatedEntry(20L)
+            ));
+
+            // WHEN
+            final DictionaryPage page = dictionaryService.getDictionaryPage(untranslated, 10L, 2);
+
+            // THEN
+            assertThat(page.getEntries()).extracting(DictionaryEntry::getId).containsExactly(11L, 15L);
+            assertThat(page.getEntries().get(0).getEnglishPhrase()).isEqualTo("english11");
+            assertThat(page.getNextAfterId()).isEqualTo(15L);
+        }
+
+        @Test
+        void shouldReturnLastPageWithoutNextAfterId() {
+
+            // GIVEN
+            given(securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)).willReturn(true);
+            given(dictionaryPageRepository.findPage(untranslated, 0L, 3)).willReturn(List.of(
+                untranslatedEntry(11L), untranslatedEntry(15L)
+            ));
+
+            // WHEN
+            final DictionaryPage page = dictionaryService.getDictionaryPage(untranslated, null, 2);
+
+            // THEN
+            assertThat(page.getEntries()).extracting(DictionaryEntry::getId).containsExactly(11L, 15L);
+            assertThat(page.getNextAfterId()).isNull();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenPageSizeIsOutOfRange() {
+
+            // GIVEN
+            given(securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)).willReturn(true);
+
+            // WHEN
+            final BadRequestException tooSmall = assertThrows(
+                BadRequestException.class, () -> dictionaryService.getDictionaryPage(untranslated, null, 0)
+            );
+            final BadRequestException tooLarge = assertThrows(
+                BadRequestException.class,
+                () -> dictionaryService.getDictionaryPage(untranslated, null, DictionaryService.MAX_PAGE_SIZE + 1)
+            );
+
+            // THEN
+            assertEquals(BAD_PAGE_SIZE, tooSmall.getMessage());
+            assertEquals(BAD_PAGE_SIZE, tooLarge.getMessage());
+            verifyNoInteractions(dictionaryPageRepository);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenUsingIncorrectRole() {
+
+            // GIVEN
+            given(securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)).willReturn(false);
+
+            // WHEN
+            final RoleMissingException roleMissingException = assertThrows(
+                RoleMissingException.class, () -> dictionaryService.getDictionaryPage(untranslated, null, 100)
+            );
+
+            // THEN
+            assertEquals(
+                String.format(RoleMissingException.ERROR_MESSAGE, MANAGE_TRANSLATIONS_ROLE),
+                roleMissingException.getMessage()
+            );
+            verifyNoInteractions(dictionaryPageRepository);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("searchDictionary")
+    class SearchDictionary {
+
+        @BeforeEach
+        void setUp() {
+            given(securityUtils.hasRole(MANAGE_TRANSLATIONS_ROLE)).willReturn(true);
+        }
+
+        @Test
+        void shouldReturnSubstringMatchesWithNextCursorWhenThereAreMoreMatches() {
+
+            // GIVEN
+            given(dictionaryPageRepository.findPageContaining("respondent", 10L, 3)).willReturn(List.of(
+                untranslatedEntry(11L), untranslatedEntry(15L), untranslatedEntry(20L)
+            ));
+
+            // WHEN
+            final DictionarySearchResults results =
+                dictionaryService.searchDictionary("respondent", SearchMode.SUBSTRING, "10", 2);
+
+            // THEN
+            assertThat(results.getEntries()).extracting(DictionaryEntry::getId).containsExactly(11L, 15L);
+            assertThat(results.getNextCursor()).isEqualTo("15");
+        }
+
+        @Test
+        void shouldSearchForQueryWithoutSurroundingWhitespace() {
+
+            // GIVEN
+            given(dictionaryPageRepository.findPageContaining("abc", 0L, 3))
+                .willReturn(List.of(untranslatedEntry(11L)));
+
+            // WHEN
+            final DictionarySearchResults results =
+                dictionaryService.searchDictionary("  abc  ", SearchMode.SUBSTRING, null, 2);
+
+            // THEN
+            assertThat(results.getEntries()).extracting(DictionaryEntry::getId).containsExactly(11L);
+        }
+
+        @Test
+        void shouldContinueSimilarityMatchesFromCursor() {
+
+            // GIVEN
+            given(dictionaryPageRepository.findPageSimilarTo("respondent", 0.8f, 15L, 3)).willReturn(List.of(
+                new DictionarySimilarityMatchView(untranslatedEntry(20L), 0.8f),
+                new DictionarySimilarityMatchView(untranslatedEntry(11L), 0.75f),
+                new DictionarySimilarityMatchView(untranslatedEntry(12L), 0.75f)
+            ));
+
+            // WHEN
+            final DictionarySearchResults results =
+                dictionaryService.searchDictionary("respondent", SearchMode.SIMILARITY, "0.8_15", 2);
+
+            // THEN
+            assertThat(results.getEntries()).extracting(DictionaryEntry::getId).containsExactly(20L, 11L);
+            assertThat(results.getNextCursor()).isEqualTo("0.75_11");
+        }
+
+        @Test
+        void shouldReturnLastPageOfSimilarityMatchesWithoutNextCursor() {
+
+            // GIVEN
+            given(dictionaryPageRepository.findPageSimilarTo("respondent", 2.0f, 0L, 3)).willReturn(List.of(
+                new DictionarySimilarityMatchView(untranslatedEntry(20L), 0.8f)
+            ));
+
+            // WHEN
+            final DictionarySearchResults results =
+                dictionaryService.searchDictionary("respondent", SearchMode.SIMILARITY, null, 2);
+
+            // THEN
+            assertThat(results.getEntries()).extracting(DictionaryEntry::getId).containsExactly(20L);
+            assertThat(results.getNextCursor()).isNull();
+        }
+
+        @Test
+        void shouldThrowExceptionWhenQueryIsTooShort() {
+
+            // WHEN
+            final BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> dictionaryService.searchDictionary(" ab ", SearchMode.SUBSTRING, null, 100)
+            );
+
+            // THEN
+            assertEquals(BAD_SEARCH_QUERY, exception.getMessage());
+            verifyNoInteractions(dictionaryPageRepository);
+        }
+
+        @Test
+        void shouldThrowExceptionWhenCursorIsInvalid() {
+
+            // WHEN
+            final BadRequestException substring = assertThrows(
+                BadRequestException.class,
+                () -> dictionaryService.searchDictionary("respondent", SearchMode.SUBSTRING, "0.8_15", 100)
+            );
+            final BadRequestException similarity = assertThrows(
+                BadRequestException.class,
+                () -> dictionaryService.searchDictionary("respondent", SearchMode.SIMILARITY, "15", 100)
+            );
+
+            // THEN
+            assertEquals(BAD_CURSOR, substring.getMessage());
+            assertEquals(BAD_CURSOR, similarity.getMessage());
+            verifyNoInteractions(dictionaryPageRepository);
+        }
+    }
+
+    private static DictionaryEntryView untranslatedEntry(final long id) {
+        return new DictionaryEntryView(id, "english" + id, null, false, null, null, null);
+    }
+
     @Nested
     @DisplayName("DeleteTestPhrases")
     class DeleteTestPhrases {
@@ -572,6 +864,7 @@ public class DictionaryServiceTest {
 
             // THEN
             verify(dictionaryRepository).deleteByEnglishPhraseStartingWith(TEST_PHRASES_START_WITH);
+            verify(applicationEventPublisher).publishEvent(DictionaryChangedEvent.forAllPhrases());
 
         }
 
@@ -6,14 +6,17 @@ import uk.gov.hmcts.reform.translate.helper.DictionaryMapper;
 import uk.gov.hmcts.reform.translate.model.Dictionary;
 import uk.gov.hmcts.reform.translate.model.Translation;
 import uk.gov.hmcts.reform.translate.repository.DefaultDictionaryRepository;
+import uk.gov.hmcts.reform.translate.repository.DictionaryPageRepository;
 import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
 import uk.gov.hmcts.reform.translate.repository.TranslationUploadRepository;
+import uk.gov.hmcts.reform.translate.repository.TranslationVersionBarrier;
 import uk.gov.hmcts.reform.translate.security.SecurityUtils;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,6 +34,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static uk.gov.hmcts.reform.translate.service.DictionaryServiceTest.createDictionaryEntity;
@@ -57,6 +61,24 @@ class DictionaryServiceWithRetryEnabledTest {
     @MockitoBean
     SecurityUtils securityUtils;
 
+    @MockitoBean
+    UntranslatedPhraseRecorder untranslatedPhraseRecorder;
+
+    @MockitoBean
+    TranslationSnapshotCache translationSnapshotCache;
+
+    @MockitoBean
+    ObjectMapper objectMapper;
+
+    @MockitoBean
+    TranslationVersionBarrier translationVersionBarrier;
+
+    @MockitoBean
+    DictionaryPageRepository dictionaryPageRepository;
+
+    @MockitoBean
+    PhraseUsageRecorder phraseUsageRecorder;
+
     @Configuration
     @EnableRetry
     public static class RetryConfig {
@@ -70,21 +92,23 @@ class DictionaryServiceWithRetryEnabledTest {
 
         final DictionaryEntity dictionaryEntity = createDictionaryEntity(THE_QUICK_FOX_PHRASE, null);
 
+        given(dictionaryMapper.modelToEntityWithoutTranslationPhrase(any())).willReturn(dictionaryEntity);
+
         // fail twice return on third
-        given(dictionaryRepository.saveAndFlush(any()))
+        given(dictionaryRepository.saveAllAndFlush(any()))
             .willThrow(new EnglishPhraseUniqueConstraintException("", null)) // 1st error
             .willThrow(new EnglishPhraseUniqueConstraintException("", null)) // 2nd error
-            .willReturn(dictionaryEntity); // worked
+            .willReturn(List.of(dictionaryEntity)); // worked
     }
 
     @Test
-    @DisplayName("Should retry GetTranslations 3 times if EnglishPhraseUniqueConstraintException")
-    void shouldRetryGetTranslations3TimesIfEnglishPhraseUniqueConstraintException() {
+    @DisplayName("Should not need to retry GetTranslations as missing phrases are recorded in the background")
+    void shouldNotRetryGetTranslationsAsMissingPhrasesAreRecordedInTheBackground() {
 
         // GIVEN
         // NB: only one phrase in use
         Set<String> inputPhrases = Set.of(THE_QUICK_FOX_PHRASE);
-        doReturn(Optional.empty()).when(dictionaryRepository).findByEnglishPhrase(THE_QUICK_FOX_PHRASE);
+        doReturn(List.of()).when(dictionaryRepository).findAllByEnglishPhraseIn(inputPhrases);
 
         // WHEN
         final Map<String, Translation> translations = dictionaryService.getTranslations(inputPhrases);
@@ -94,8 +118,9 @@ class DictionaryServiceWithRetryEnabledTest {
             .isNotNull()
             .containsOnlyKeys(THE_QUICK_FOX_PHRASE);
 
-        // verify save called three times for only the one phrase: i.e. repeated three times
-        verify(dictionaryRepository, times(3)).saveAndFlush(any());
+        // verify the missing phrase is recorded once and never via the conflicting save
+        verify(untranslatedPhraseRecorder, times(1)).record(inputPhrases);
+        verify(dictionaryRepository, never()).saveAllAndFlush(any());
     }
 
     @Test
@@ -112,7 +137,7 @@ class DictionaryServiceWithRetryEnabledTest {
 
         // THEN
         // verify save called three times for only the one phrase: i.e. repeated three times
-        verify(dictionaryRepository, times(3)).saveAndFlush(any());
+        verify(dictionaryRepository, times(3)).saveAllAndFlush(any());
     }
 
 }
@@ -0,0 +1,191 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.data.PhraseUsageView;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.translate.service.PhraseUsageRecorder.TRACKED_PHRASES_METRIC;
+
+@DisplayName("PhraseUsageRecorder")
+@ExtendWith(MockitoExtension.class)
+class PhraseUsageRecorderTest {
+
+    private static final int FLUSH_BATCH_SIZE = 2;
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    @Captor
+    private ArgumentCaptor<Collection<PhraseUsageView>> phraseUsagesCaptor;
+
+    private MeterRegistry meterRegistry;
+
+    private PhraseUsageRecorder underTest;
+
+    @BeforeEach
+    void setUp() {
+        given(applicationParams.getPhraseUsageFlushBatchSize()).willReturn(FLUSH_BATCH_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+
+        underTest = new PhraseUsageRecorder(dictionaryRepository, applicationParams, meterRegistry);
+    }
+
+    @Test
+    void shouldNotWriteToTheDictionaryWhenRecording() {
+
+        // WHEN
+        underTest.record(List.of("phrase 1", "phrase 2"));
+        underTest.record(List.of("phrase 1"));
+
+        // THEN
+        verify(dictionaryRepository, never()).addPhraseUsage(anyCollection());
+        assertThat(meterRegistry.get(TRACKED_PHRASES_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldFlushHitCountsInBatches() {
+
+        // GIVEN
+        final LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        underTest.record(List.of("phrase 1", "phrase 2", "phrase 3"));
+        underTest.record(List.of("phrase 1", "phrase 3"));
+        underTest.record(List.of("phrase 1"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(2)).addPhraseUsage(phraseUsagesCaptor.capture());
+        assertThat(phraseUsagesCaptor.getAllValues()).extracting(Collection::size).containsExactlyInAnyOrder(2, 1);
+        final List<PhraseUsageView> flushed = phraseUsagesCaptor.getAllValues().stream()
+            .flatMap(Collection::stream)
+            .toList();
+        assertThat(hitCounts(flushed)).isEqualTo(Map.of("phrase 1", 3L, "phrase 2", 1L, "phrase 3", 2L));
+        assertThat(flushed).allSatisfy(usage -> assertThat(usage.lastRequestedAt()).isAfterOrEqualTo(before));
+    }
+
+    @Test
+    void shouldOnlyFlushHitsRecordedSinceTheLastFlush() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1", "phrase 2"));
+        underTest.flush();
+        underTest.record(List.of("phrase 2"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(2)).addPhraseUsage(phraseUsagesCaptor.capture());
+        assertThat(hitCounts(phraseUsagesCaptor.getAllValues().get(1))).isEqualTo(Map.of("phrase 2", 1L));
+    }
+
+    @Test
+    void shouldNotWriteToTheDictionaryWhenNothingWasRecorded() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1"));
+        underTest.flush();
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(1)).addPhraseUsage(anyCollection());
+    }
+
+    @Test
+    void shouldKeepHitCountsWhenFlushFails() {
+
+        // GIVEN
+        given(dictionaryRepository.addPhraseUsage(anyCollection()))
+            .willThrow(new IllegalStateException("database unavailable"))
+            .willReturn(1);
+        underTest.record(List.of("phrase 1"));
+        underTest.flush();
+        underTest.record(List.of("phrase 1"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(2)).addPhraseUsage(phraseUsagesCaptor.capture());
+        assertThat(hitCounts(phraseUsagesCaptor.getAllValues().get(1))).isEqualTo(Map.of("phrase 1", 2L));
+    }
+
+    @Test
+    void shouldWriteHitCountsHeldBackByFailedFlushWhenNothingElseWasRecorded() {
+
+        // GIVEN
+        given(dictionaryRepository.addPhraseUsage(anyCollection()))
+            .willThrow(new IllegalStateException("database unavailable"))
+            .willReturn(1);
+        underTest.record(List.of("phrase 1"));
+        underTest.flush();
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(2)).addPhraseUsage(phraseUsagesCaptor.capture());
+        assertThat(hitCounts(phraseUsagesCaptor.getAllValues().get(1))).isEqualTo(Map.of("phrase 1", 1L));
+    }
+
+    @Test
+    void shouldStopTrackingPhrasesOnceFlushed() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1", "phrase 2"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        assertThat(meterRegistry.get(TRACKED_PHRASES_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldFlushHitCountsWhenDrained() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1"));
+
+        // WHEN
+        underTest.drain();
+
+        // THEN
+        verify(dictionaryRepository).addPhraseUsage(phraseUsagesCaptor.capture());
+        assertThat(hitCounts(phraseUsagesCaptor.getValue())).isEqualTo(Map.of("phrase 1", 1L));
+    }
+
+    private static Map<String, Long> hitCounts(final Collection<PhraseUsageView> phraseUsages) {
+        return phraseUsages.stream()
+            .collect(Collectors.toMap(PhraseUsageView::englishPhrase, PhraseUsageView::hitCount));
+    }
+}
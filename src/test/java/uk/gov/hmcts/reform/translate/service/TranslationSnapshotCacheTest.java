@@ -0,0 +1,134 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import uk.gov.hmcts.reform.translate.data.DictionaryEntity;
+import uk.gov.hmcts.reform.translate.model.Translation;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.translate.service.DictionaryServiceTest.createDictionaryEntity;
+import static uk.gov.hmcts.reform.translate.service.TranslationSnapshotCache.LOOKUPS_METRIC;
+import static uk.gov.hmcts.reform.translate.service.TranslationSnapshotCache.SIZE_METRIC;
+
+@DisplayName("TranslationSnapshotCache")
+@ExtendWith(MockitoExtension.class)
+class TranslationSnapshotCacheTest {
+
+    private static final String PHRASE_1 = "English phrase 1";
+    private static final String PHRASE_2 = "English phrase 2";
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    private MeterRegistry meterRegistry;
+
+    private TranslationSnapshotCache underTest;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        underTest = new TranslationSnapshotCache(dictionaryRepository, meterRegistry);
+    }
+
+    @Test
+    void shouldServeTranslationsFromSnapshotAfterReload() {
+
+        // GIVEN
+        given(dictionaryRepository.findAll()).willReturn(List.of(
+            createDictionaryEntity(PHRASE_1, "Translated phrase 1"),
+            createDictionaryEntity(PHRASE_2, null)
+        ));
+
+        // WHEN
+        underTest.reload();
+
+        // THEN
+        assertThat(underTest.get(PHRASE_1)).contains(new Translation("Translated phrase 1"));
+        assertThat(underTest.get(PHRASE_2)).contains(new Translation(PHRASE_2));
+        assertThat(underTest.get("unknown phrase")).isEmpty();
+
+        assertThat(meterRegistry.get(SIZE_METRIC).gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(LOOKUPS_METRIC).tag("result", "hit").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get(LOOKUPS_METRIC).tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefreshOnlyTheChangedPhrases() {
+
+        // GIVEN
+        given(dictionaryRepository.findAll()).willReturn(List.of(
+            createDictionaryEntity(PHRASE_1, "Translated phrase 1"),
+            createDictionaryEntity(PHRASE_2, null)
+        ));
+        underTest.reload();
+        given(dictionaryRepository.findAllByEnglishPhraseIn(Set.of(PHRASE_2)))
+            .willReturn(List.of(createDictionaryEntity(PHRASE_2, "Translated phrase 2")));
+
+        // WHEN
+        underTest.onDictionaryChanged(DictionaryChangedEvent.forPhrases(Set.of(PHRASE_2)));
+
+        // THEN
+        assertThat(underTest.get(PHRASE_1)).contains(new Translation("Translated phrase 1"));
+        assertThat(underTest.get(PHRASE_2)).contains(new Translation("Translated phrase 2"));
+    }
+
+    @Test
+    void shouldRemovePhrasesNoLongerInTheDictionaryOnRefresh() {
+
+        // GIVEN
+        given(dictionaryRepository.findAll()).willReturn(List.of(createDictionaryEntity(PHRASE_1, null)));
+        underTest.reload();
+        given(dictionaryRepository.findAllByEnglishPhraseIn(Set.of(PHRASE_1))).willReturn(List.of());
+
+        // WHEN
+        underTest.refresh(Set.of(PHRASE_1));
+
+        // THEN
+        assertThat(underTest.get(PHRASE_1)).isEmpty();
+    }
+
+    @Test
+    void shouldReloadEverythingWhenAllPhrasesHaveChanged() {
+
+        // GIVEN
+        given(dictionaryRepository.findAll())
+            .willReturn(List.of(createDictionaryEntity(PHRASE_1, null)))
+            .willReturn(List.of());
+        underTest.reload();
+
+        // WHEN
+        underTest.onDictionaryChanged(DictionaryChangedEvent.forAllPhrases());
+
+        // THEN
+        verify(dictionaryRepository, times(2)).findAll();
+        assertThat(underTest.get(PHRASE_1)).isEmpty();
+    }
+
+    @Test
+    void shouldNotBeAffectedByChangesToLoadedEntities() {
+
+        // GIVEN
+        final DictionaryEntity entity = createDictionaryEntity(PHRASE_1, "Translated phrase 1");
+        given(dictionaryRepository.findAll()).willReturn(List.of(entity));
+        underTest.reload();
+
+        // WHEN
+        entity.setTranslationPhrase("Changed after load");
+
+        // THEN
+        assertThat(underTest.get(PHRASE_1)).contains(new Translation("Translated phrase 1"));
+    }
+}
@@ -0,0 +1,171 @@
+package uk.gov.hmcts.reform.translate.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import uk.gov.hmcts.reform.translate.ApplicationParams;
+import uk.gov.hmcts.reform.translate.repository.DictionaryRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static uk.gov.hmcts.reform.translate.service.UntranslatedPhraseRecorder.DROPPED_METRIC;
+import static uk.gov.hmcts.reform.translate.service.UntranslatedPhraseRecorder.QUEUE_DEPTH_METRIC;
+
+@DisplayName("UntranslatedPhraseRecorder")
+@ExtendWith(MockitoExtension.class)
+class UntranslatedPhraseRecorderTest {
+
+    private static final int QUEUE_CAPACITY = 3;
+    private static final int FLUSH_BATCH_SIZE = 2;
+
+    @Mock
+    private DictionaryRepository dictionaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private ApplicationParams applicationParams;
+
+    private MeterRegistry meterRegistry;
+
+    private UntranslatedPhraseRecorder underTest;
+
+    @BeforeEach
+    void setUp() {
+        given(applicationParams.getUntranslatedPhrasesQueueCapacity()).willReturn(QUEUE_CAPACITY);
+        given(applicationParams.getUntranslatedPhrasesFlushBatchSize()).willReturn(FLUSH_BATCH_SIZE);
+        meterRegistry = new SimpleMeterRegistry();
+
+        underTest = new UntranslatedPhraseRecorder(
+            dictionaryRepository, applicationEventPublisher, applicationParams, meterRegistry
+        );
+    }
+
+    @Test
+    void shouldNotWriteToTheDictionaryWhenRecording() {
+
+        // WHEN
+        underTest.record(List.of("phrase 1", "phrase 2"));
+
+        // THEN
+        verify(dictionaryRepository, never()).insertEnglishPhrasesIfAbsent(anyCollection());
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldDropPhrasesWhenQueueIsFull() {
+
+        // WHEN
+        underTest.record(List.of("phrase 1", "phrase 2", "phrase 3", "phrase 4", "phrase 5"));
+
+        // THEN
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isEqualTo(QUEUE_CAPACITY);
+        assertThat(meterRegistry.get(DROPPED_METRIC).counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldQueuePhraseOnceUntilFlushed() {
+
+        // WHEN
+        underTest.record(List.of("phrase 1"));
+        underTest.record(List.of("phrase 1"));
+        underTest.record(List.of("phrase 1", "phrase 2", "phrase 3"));
+
+        // THEN
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isEqualTo(QUEUE_CAPACITY);
+        assertThat(meterRegistry.get(DROPPED_METRIC).counter().count()).isZero();
+    }
+
+    @Test
+    void shouldFlushDeduplicatedPhrasesInBatches() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1", "phrase 1"));
+        underTest.record(List.of("phrase 2", "phrase 3"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository).insertEnglishPhrasesIfAbsent(Set.of("phrase 1", "phrase 2"));
+        verify(dictionaryRepository).insertEnglishPhrasesIfAbsent(Set.of("phrase 3"));
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isZero();
+
+        // verify every node is told to read the flushed phrases into its snapshot
+        verify(applicationEventPublisher)
+            .publishEvent(DictionaryChangedEvent.forPhrases(Set.of("phrase 1", "phrase 2")));
+        verify(applicationEventPublisher).publishEvent(DictionaryChangedEvent.forPhrases(Set.of("phrase 3")));
+    }
+
+    @Test
+    void shouldQueuePhraseAgainOnceFlushed() {
+
+        // GIVEN
+        given(dictionaryRepository.insertEnglishPhrasesIfAbsent(anyCollection()))
+            .willThrow(new IllegalStateException("database unavailable"));
+        underTest.record(List.of("phrase 1"));
+        underTest.flush();
+
+        // WHEN
+        underTest.record(List.of("phrase 1"));
+
+        // THEN
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCarryOnFlushingWhenABatchFails() {
+
+        // GIVEN
+        given(dictionaryRepository.insertEnglishPhrasesIfAbsent(anyCollection()))
+            .willThrow(new IllegalStateException("database unavailable"))
+            .willReturn(1);
+        underTest.record(List.of("phrase 1", "phrase 2", "phrase 3"));
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, times(2)).insertEnglishPhrasesIfAbsent(anyCollection());
+        verify(applicationEventPublisher, times(1)).publishEvent(any(DictionaryChangedEvent.class));
+        assertThat(meterRegistry.get(QUEUE_DEPTH_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldFlushQueuedPhrasesWhenDraining() {
+
+        // GIVEN
+        underTest.record(List.of("phrase 1"));
+
+        // WHEN
+        underTest.drain();
+
+        // THEN
+        verify(dictionaryRepository).insertEnglishPhrasesIfAbsent(Set.of("phrase 1"));
+    }
+
+    @Test
+    void shouldDoNothingWhenFlushingAnEmptyQueue() {
+
+        // WHEN
+        underTest.flush();
+
+        // THEN
+        verify(dictionaryRepository, never()).insertEnglishPhrasesIfAbsent(anyCollection());
+    }
+}